@@ -0,0 +1,76 @@
+package com.jeontongju.auction.actuator;
+
+import com.jeontongju.auction.config.BulkheadConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/bulkheads - 작업 종류별 실행 풀 할당과 현재 사용량
+ */
+@Component
+@Endpoint(id = "bulkheads")
+public class BulkheadEndpoint {
+
+  private final Map<String, ThreadPoolTaskExecutor> executors = new LinkedHashMap<>();
+  private final MeterRegistry meterRegistry;
+
+  public BulkheadEndpoint(ThreadPoolTaskExecutor bidExecutor,
+      ThreadPoolTaskExecutor chatExecutor, ThreadPoolTaskExecutor adminExecutor,
+      ThreadPoolTaskExecutor fanoutExecutor, MeterRegistry meterRegistry) {
+    this.executors.put(BulkheadConfig.BID, bidExecutor);
+    this.executors.put(BulkheadConfig.CHAT, chatExecutor);
+    this.executors.put(BulkheadConfig.ADMIN, adminExecutor);
+    this.executors.put(BulkheadConfig.FANOUT, fanoutExecutor);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @ReadOperation
+  public Map<String, BulkheadStatus> bulkheads() {
+    Map<String, BulkheadStatus> result = new LinkedHashMap<>();
+    executors.forEach((name, executor) -> result.put(name, status(name, executor)));
+    return result;
+  }
+
+  private BulkheadStatus status(String name, ThreadPoolTaskExecutor executor) {
+    ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+    Counter rejected = meterRegistry.find("auction.bulkhead.rejected")
+        .tag("bulkhead", name)
+        .counter();
+
+    return BulkheadStatus.builder()
+        .coreSize(executor.getCorePoolSize())
+        .maxSize(executor.getMaxPoolSize())
+        .queueCapacity(pool.getQueue().size() + pool.getQueue().remainingCapacity())
+        .threadPriority(executor.getThreadPriority())
+        .poolSize(executor.getPoolSize())
+        .active(executor.getActiveCount())
+        .queued(pool.getQueue().size())
+        .completed(pool.getCompletedTaskCount())
+        .rejected(rejected == null ? 0 : (long) rejected.count())
+        .build();
+  }
+
+  @Getter
+  @Builder
+  public static class BulkheadStatus {
+
+    private final int coreSize;
+    private final int maxSize;
+    private final int queueCapacity;
+    private final int threadPriority;
+    private final int poolSize;
+    private final int active;
+    private final int queued;
+    private final long completed;
+    private final long rejected;
+  }
+}
@@ -0,0 +1,149 @@
+package com.jeontongju.auction.actuator;
+
+import com.jeontongju.auction.jfr.BidEvent;
+import com.jeontongju.auction.jfr.BidSnapshotEvent;
+import com.jeontongju.auction.jfr.FanoutEvent;
+import com.jeontongju.auction.jfr.FeignCallEvent;
+import com.jeontongju.auction.jfr.HammerDownEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/flightrecording - 경매 이벤트를 포함한 JFR 기록 시작 / 중지
+ *
+ * <p>기록은 한 번에 하나만 하고, 기간과 크기는 설정한 상한을 넘지 못한다.
+ * 중지하면 jfr.directory 아래에 .jfr 파일로 남는다.
+ */
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+  private static final List<Class<? extends Event>> AUCTION_EVENTS = List.of(
+      BidEvent.class, BidSnapshotEvent.class, FanoutEvent.class, HammerDownEvent.class,
+      FeignCallEvent.class);
+  private static final DateTimeFormatter FILE_NAME =
+      DateTimeFormatter.ofPattern("'auction-'yyyyMMdd-HHmmss'.jfr'");
+
+  private final String directory;
+  private final String settings;
+  private final long maxDurationSeconds;
+  private final long maxSizeMb;
+
+  private Recording recording;
+  private Path destination;
+
+  public FlightRecordingEndpoint(
+      @Value("${jfr.directory:${java.io.tmpdir}}") String directory,
+      @Value("${jfr.settings:profile}") String settings,
+      @Value("${jfr.max-duration-seconds:600}") long maxDurationSeconds,
+      @Value("${jfr.max-size-mb:256}") long maxSizeMb) {
+    this.directory = directory;
+    this.settings = settings;
+    this.maxDurationSeconds = maxDurationSeconds;
+    this.maxSizeMb = maxSizeMb;
+  }
+
+  @ReadOperation
+  public synchronized RecordingStatus status() {
+    return RecordingStatus.of(recording, destination);
+  }
+
+  @WriteOperation
+  public synchronized RecordingStatus start(@Nullable Long durationSeconds,
+      @Nullable Long sizeMb) {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      return status();
+    }
+    close();
+
+    try {
+      Files.createDirectories(Paths.get(directory));
+      destination = Paths.get(directory, LocalDateTime.now().format(FILE_NAME));
+
+      recording = new Recording(Configuration.getConfiguration(settings));
+      AUCTION_EVENTS.forEach(recording::enable);
+      recording.setName("auction");
+      recording.setToDisk(true);
+      recording.setDuration(Duration.ofSeconds(bounded(durationSeconds, maxDurationSeconds)));
+      recording.setMaxSize(bounded(sizeMb, maxSizeMb) * 1024 * 1024);
+      recording.setDestination(destination);
+      recording.start();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (ParseException e) {
+      throw new IllegalStateException("JFR 설정을 읽을 수 없습니다 : " + settings, e);
+    }
+    return status();
+  }
+
+  // 기간이 끝나기 전에 멈추고 지금까지의 기록을 파일로 남긴다
+  @DeleteOperation
+  public synchronized RecordingStatus stop() {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      recording.stop();
+    }
+    return status();
+  }
+
+  private void close() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+  }
+
+  private long bounded(Long requested, long max) {
+    if (requested == null || requested <= 0) {
+      return max;
+    }
+    return Math.min(requested, max);
+  }
+
+  @Getter
+  @Builder
+  public static class RecordingStatus {
+
+    private final String state;
+    private final Instant startTime;
+    private final Duration duration;
+    private final long maxSize;
+    private final long size;
+    private final String destination;
+
+    private static RecordingStatus of(Recording recording, Path destination) {
+      if (recording == null) {
+        return RecordingStatus.builder().state("NONE").build();
+      }
+      return RecordingStatus.builder()
+          .state(recording.getState().name())
+          .startTime(recording.getStartTime())
+          .duration(recording.getDuration())
+          .maxSize(recording.getMaxSize())
+          .size(recording.getSize())
+          .destination(destination == null ? null : destination.toString())
+          .build();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.jeontongju.auction.client;
+
+import com.jeontongju.auction.client.cache.FeignResponseCache;
+import com.jeontongju.auction.exception.InvalidConsumerCreditException;
+import io.github.bitbox.bitbox.dto.ConsumerInfoDto;
+import io.github.bitbox.bitbox.dto.MemberDto;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * consumer-service 회원 정보 조회기
+ *
+ * <p>같은 consumerId 에 대한 동시 조회는 한 번의 호출로 합치고(single-flight),
+ * 배치가 켜져 있으면 짧은 윈도우 동안 모인 서로 다른 consumerId 를 한 번의 벌크 요청으로 보낸다.
+ * 조회 실패 시에는 {@link FeignResponseCache} 에 남아있는 마지막 정상값을 사용한다.
+ */
+@Slf4j
+@Component
+public class ConsumerInfoLoader {
+
+  private final ConsumerServiceFeignClient client;
+  private final FeignResponseCache<Long, MemberDto> consumerInfoCache;
+  private final boolean batchEnabled;
+  private final long batchWindowMillis;
+  private final int maxBatchSize;
+
+  private final ConcurrentHashMap<Long, CompletableFuture<MemberDto>> inFlight =
+      new ConcurrentHashMap<>();
+
+  private final Object batchLock = new Object();
+  private Map<Long, CompletableFuture<MemberDto>> pendingBatch = new HashMap<>();
+  private final ScheduledExecutorService batchScheduler;
+
+  public ConsumerInfoLoader(ConsumerServiceFeignClient client,
+      FeignResponseCache<Long, MemberDto> consumerInfoCache,
+      @Value("${consumer-info.batch.enabled:false}") boolean batchEnabled,
+      @Value("${consumer-info.batch.window-millis:10}") long batchWindowMillis,
+      @Value("${consumer-info.batch.max-size:100}") int maxBatchSize) {
+    this.client = client;
+    this.consumerInfoCache = consumerInfoCache;
+    this.batchEnabled = batchEnabled;
+    this.batchWindowMillis = batchWindowMillis;
+    this.maxBatchSize = maxBatchSize;
+    this.batchScheduler = batchEnabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "consumer-info-batch");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+  }
+
+  public MemberDto load(Long consumerId) {
+    CompletableFuture<MemberDto> future = new CompletableFuture<>();
+    CompletableFuture<MemberDto> existing = inFlight.putIfAbsent(consumerId, future);
+    if (existing != null) {
+      return join(existing);
+    }
+
+    future.whenComplete((memberDto, throwable) -> inFlight.remove(consumerId, future));
+
+    if (batchEnabled) {
+      enqueue(consumerId, future);
+    } else {
+      loadOne(consumerId, future);
+    }
+
+    return join(future);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (batchScheduler != null) {
+      batchScheduler.shutdown();
+    }
+  }
+
+  private void loadOne(Long consumerId, CompletableFuture<MemberDto> future) {
+    try {
+      future.complete(consumerInfoCache.get(consumerId,
+          id -> client.getConsumerInfo(id).getData().to(id)));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+  }
+
+  private void enqueue(Long consumerId, CompletableFuture<MemberDto> future) {
+    synchronized (batchLock) {
+      pendingBatch.put(consumerId, future);
+
+      if (pendingBatch.size() >= maxBatchSize) {
+        batchScheduler.execute(this::flush);
+      } else if (pendingBatch.size() == 1) {
+        batchScheduler.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void flush() {
+    Map<Long, CompletableFuture<MemberDto>> batch;
+    synchronized (batchLock) {
+      if (pendingBatch.isEmpty()) {
+        return;
+      }
+      batch = pendingBatch;
+      pendingBatch = new HashMap<>();
+    }
+
+    try {
+      Map<Long, ConsumerInfoDto> consumerInfoMap =
+          client.getConsumerInfoList(new ArrayList<>(batch.keySet())).getData();
+
+      batch.forEach((consumerId, future) -> {
+        ConsumerInfoDto consumerInfo =
+            consumerInfoMap == null ? null : consumerInfoMap.get(consumerId);
+
+        if (consumerInfo == null) {
+          future.completeExceptionally(new InvalidConsumerCreditException());
+        } else {
+          MemberDto memberDto = consumerInfo.to(consumerId);
+          consumerInfoCache.put(consumerId, memberDto);
+          future.complete(memberDto);
+        }
+      });
+    } catch (RuntimeException e) {
+      log.error("회원 정보 벌크 조회 실패, size : {}", batch.size(), e);
+      batch.forEach((consumerId, future) ->
+          consumerInfoCache.getStale(consumerId).ifPresentOrElse(
+              future::complete,
+              () -> future.completeExceptionally(e)
+          )
+      );
+    }
+  }
+
+  private MemberDto join(CompletableFuture<MemberDto> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
@@ -1,16 +1,23 @@
 package com.jeontongju.auction.client;
 
+import com.jeontongju.auction.client.hedge.Hedged;
 import io.github.bitbox.bitbox.dto.ConsumerInfoDto;
 import io.github.bitbox.bitbox.dto.FeignFormat;
+import java.util.List;
+import java.util.Map;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "consumer-service")
 public interface ConsumerServiceFeignClient {
+  @Hedged
   @GetMapping("/consumers/{consumerId}/auction")
   FeignFormat<ConsumerInfoDto> getConsumerInfo(@PathVariable Long consumerId);
+  @GetMapping("/consumers/auction")
+  FeignFormat<Map<Long, ConsumerInfoDto>> getConsumerInfoList(@RequestParam List<Long> consumerIds);
   @PutMapping("/consumers/{consumerId}/credit/{deductionCredit}")
   FeignFormat<Boolean> deductCredit(@PathVariable Long consumerId, @PathVariable Long deductionCredit);
 }
@@ -0,0 +1,166 @@
+package com.jeontongju.auction.client.cache;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feign 응답의 마지막 정상값(last-known-good)을 보관하는 캐시
+ *
+ * <p>호출이 실패하거나(서킷 오픈 포함) 지연 예산을 넘기면 보관된 값을 대신 반환하고,
+ * 원래 호출은 백그라운드에서 끝까지 진행되어 성공 시 캐시를 갱신한다.
+ * executor 가 가득 차 호출을 넘기지 못해도 보관된 값을 반환하며,
+ * 보관 기간(maxStaleness)이 지난 값은 반환하지 않는다.
+ */
+@Slf4j
+public class FeignResponseCache<K, V> {
+
+  private final String name;
+  private final Executor executor;
+  private final Duration latencyBudget;
+  private final Duration maxStaleness;
+  private final Map<K, CachedValue<V>> entries;
+
+  private final Counter staleServedByTimeout;
+  private final Counter staleServedByError;
+  private final Counter staleServedByRejection;
+  private final Timer staleAge;
+
+  public FeignResponseCache(String name, Executor executor, Duration latencyBudget,
+      Duration maxStaleness, int maxEntries, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.executor = executor;
+    this.latencyBudget = latencyBudget;
+    this.maxStaleness = maxStaleness;
+    this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+        return size() > maxEntries;
+      }
+    });
+
+    this.staleServedByTimeout = Counter.builder("feign.cache.stale.served")
+        .tag("client", name).tag("reason", "timeout")
+        .register(meterRegistry);
+    this.staleServedByError = Counter.builder("feign.cache.stale.served")
+        .tag("client", name).tag("reason", "error")
+        .register(meterRegistry);
+    this.staleServedByRejection = Counter.builder("feign.cache.stale.served")
+        .tag("client", name).tag("reason", "rejected")
+        .register(meterRegistry);
+    this.staleAge = Timer.builder("feign.cache.stale.age")
+        .tag("client", name)
+        .register(meterRegistry);
+    Gauge.builder("feign.cache.size", entries, Map::size)
+        .tag("client", name)
+        .register(meterRegistry);
+  }
+
+  public V get(K key, Function<K, V> loader) {
+    Optional<CachedValue<V>> cached = getFresh(key);
+
+    CompletableFuture<V> future;
+    try {
+      future = CompletableFuture.supplyAsync(() -> loader.apply(key), executor);
+    } catch (RejectedExecutionException e) {
+      // 호출 스레드에서 대신 실행하면 지연 예산을 지킬 수 없으므로 보관된 값으로 대신한다
+      if (cached.isEmpty()) {
+        throw e;
+      }
+      return serveStale(key, cached.get(), staleServedByRejection);
+    }
+    future.thenAccept(value -> put(key, value));
+
+    if (cached.isEmpty()) {
+      return join(future);
+    }
+
+    try {
+      return future.get(latencyBudget.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      return serveStale(key, cached.get(), staleServedByTimeout);
+    } catch (ExecutionException e) {
+      if (isServableFailure(e.getCause())) {
+        return serveStale(key, cached.get(), staleServedByError);
+      }
+      throw rethrow(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return serveStale(key, cached.get(), staleServedByError);
+    }
+  }
+
+  public void put(K key, V value) {
+    if (value != null) {
+      entries.put(key, new CachedValue<>(value, System.nanoTime()));
+    }
+  }
+
+  public Optional<V> getStale(K key) {
+    return getFresh(key).map(cached -> serveStale(key, cached, staleServedByError));
+  }
+
+  private Optional<CachedValue<V>> getFresh(K key) {
+    return Optional.ofNullable(entries.get(key))
+        .filter(cached -> cached.age().compareTo(maxStaleness) <= 0);
+  }
+
+  private V serveStale(K key, CachedValue<V> cached, Counter counter) {
+    log.warn("{} 응답 지연/실패로 캐시된 값 반환, key : {}, age : {}ms",
+        name, key, cached.age().toMillis());
+    counter.increment();
+    staleAge.record(cached.age());
+    return cached.value;
+  }
+
+  // 4xx 는 요청 자체의 문제이므로 캐시로 감추지 않는다
+  private boolean isServableFailure(Throwable cause) {
+    return !(cause instanceof FeignException.FeignClientException);
+  }
+
+  private V join(CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      throw rethrow(e.getCause());
+    }
+  }
+
+  private RuntimeException rethrow(Throwable cause) {
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  private static class CachedValue<V> {
+
+    private final V value;
+    private final long loadedAt;
+
+    private CachedValue(V value, long loadedAt) {
+      this.value = value;
+      this.loadedAt = loadedAt;
+    }
+
+    private Duration age() {
+      return Duration.ofNanos(System.nanoTime() - loadedAt);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.jeontongju.auction.client.hedge;
+
+/**
+ * 헤지 요청 예산 (토큰 버킷)
+ *
+ * <p>원 요청마다 ratio 만큼 토큰이 쌓이고 헤지 요청 한 번에 토큰 1개를 쓴다.
+ * 따라서 헤지로 늘어나는 부하는 장기적으로 원 요청의 ratio 비율을 넘지 않는다.
+ */
+public class HedgeBudget {
+
+  private final double ratio;
+  private final double maxTokens;
+  private double tokens;
+
+  public HedgeBudget(double ratio, double maxTokens) {
+    this.ratio = ratio;
+    this.maxTokens = maxTokens;
+    this.tokens = maxTokens;
+  }
+
+  public synchronized void deposit() {
+    tokens = Math.min(maxTokens, tokens + ratio);
+  }
+
+  public synchronized boolean tryWithdraw() {
+    if (tokens < 1) {
+      return false;
+    }
+    tokens -= 1;
+    return true;
+  }
+
+  public synchronized double getTokens() {
+    return tokens;
+  }
+}
@@ -0,0 +1,17 @@
+package com.jeontongju.auction.client.hedge;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 헤징 대상 Feign 메서드 표시
+ *
+ * <p>멱등한 GET 요청에만 붙인다. p95 안에 응답이 없으면 다른 인스턴스로 한 번 더 요청하고 먼저 온 응답을 사용한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Hedged {
+
+}
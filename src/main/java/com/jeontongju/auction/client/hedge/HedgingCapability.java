@@ -0,0 +1,312 @@
+package com.jeontongju.auction.client.hedge;
+
+import brave.Tracing;
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerUriTools;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.RetryableFeignBlockingLoadBalancerClient;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Hedged} 가 붙은 GET 요청 헤징
+ *
+ * <p>Eureka 에서 서로 다른 인스턴스 두 개를 골라 첫 번째로 요청하고, 관측된 p95 안에 응답이 없으면
+ * 예산이 남아있는 경우에 한해 두 번째 인스턴스로 한 번 더 요청한다. 먼저 성공한 응답을 쓰고 나머지는 닫는다.
+ * 로드밸런서를 거치지 않고 인스턴스를 직접 고르므로 가장 안쪽에서 Client 를 감싼다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HedgingCapability implements Capability {
+
+  private final DiscoveryClient discoveryClient;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final Duration defaultDelay;
+  private final Duration minDelay;
+  private final long minSamples;
+  private final HedgeBudget budget;
+  private final ExecutorService executor;
+
+  private final Map<String, HedgeMeters> meters = new ConcurrentHashMap<>();
+
+  public HedgingCapability(DiscoveryClient discoveryClient, MeterRegistry meterRegistry,
+      ObjectProvider<Tracing> tracingProvider,
+      @Value("${feign-hedging.enabled:false}") boolean enabled,
+      @Value("${feign-hedging.default-delay-millis:100}") long defaultDelayMillis,
+      @Value("${feign-hedging.min-delay-millis:10}") long minDelayMillis,
+      @Value("${feign-hedging.min-samples:100}") long minSamples,
+      @Value("${feign-hedging.budget-ratio:0.1}") double budgetRatio,
+      @Value("${feign-hedging.budget-max-tokens:10}") double budgetMaxTokens) {
+    this.discoveryClient = discoveryClient;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.defaultDelay = Duration.ofMillis(defaultDelayMillis);
+    this.minDelay = Duration.ofMillis(minDelayMillis);
+    this.minSamples = minSamples;
+    this.budget = new HedgeBudget(budgetRatio, budgetMaxTokens);
+
+    ExecutorService pool = Executors.newCachedThreadPool(new ThreadFactory() {
+      private final AtomicInteger sequence = new AtomicInteger();
+
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "feign-hedge-" + sequence.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    Tracing tracing = tracingProvider.getIfAvailable();
+    this.executor = tracing == null ? pool : tracing.currentTraceContext().executorService(pool);
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    if (!enabled) {
+      return client;
+    }
+    Client raw = unwrapLoadBalancer(client);
+    return (request, options) -> isHedged(request)
+        ? executeHedged(client, raw, request, options)
+        : client.execute(request, options);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private Response executeHedged(Client client, Client raw, Request request, Options options)
+      throws IOException {
+    String serviceId = URI.create(request.url()).getHost();
+    List<ServiceInstance> instances = new ArrayList<>(discoveryClient.getInstances(serviceId));
+    if (instances.size() < 2) {
+      return client.execute(request, options);
+    }
+    Collections.shuffle(instances);
+
+    HedgeMeters hedgeMeters = meters.computeIfAbsent(serviceId, HedgeMeters::new);
+    hedgeMeters.requests.increment();
+    budget.deposit();
+
+    CompletableFuture<Response> primary =
+        send(raw, rewrite(request, instances.get(0)), options, hedgeMeters);
+    try {
+      return primary.get(hedgeMeters.hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // p95 안에 응답이 없으면 헤지 요청 여부를 판단한다
+    } catch (ExecutionException e) {
+      throw rethrow(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      primary.thenAccept(this::close);
+      throw new IOException(e);
+    }
+
+    if (!budget.tryWithdraw()) {
+      hedgeMeters.budgetExhausted.increment();
+      return await(primary);
+    }
+
+    hedgeMeters.sent.increment();
+    CompletableFuture<Response> hedge =
+        send(raw, rewrite(request, instances.get(1)), options, hedgeMeters);
+
+    return await(firstSuccessful(primary, hedge, hedgeMeters));
+  }
+
+  private CompletableFuture<Response> send(Client raw, Request request, Options options,
+      HedgeMeters hedgeMeters) {
+    long start = System.nanoTime();
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return raw.execute(request, options);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, executor).whenComplete((response, throwable) -> {
+      if (throwable == null) {
+        hedgeMeters.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      }
+    });
+  }
+
+  private CompletableFuture<Response> firstSuccessful(CompletableFuture<Response> primary,
+      CompletableFuture<Response> hedge, HedgeMeters hedgeMeters) {
+    CompletableFuture<Response> result = new CompletableFuture<>();
+    AtomicInteger failures = new AtomicInteger();
+    AtomicBoolean decided = new AtomicBoolean();
+
+    primary.whenComplete((response, throwable) ->
+        complete(result, response, throwable, failures, decided, null));
+    hedge.whenComplete((response, throwable) ->
+        complete(result, response, throwable, failures, decided, hedgeMeters.won));
+
+    return result;
+  }
+
+  private void complete(CompletableFuture<Response> result, Response response,
+      Throwable throwable, AtomicInteger failures, AtomicBoolean decided, Counter wonCounter) {
+    if (throwable == null && isSuccessful(response)) {
+      // 호출 스레드가 깨어나기 전에 집계가 끝나도록 승자를 먼저 정한다
+      if (decided.compareAndSet(false, true)) {
+        if (wonCounter != null) {
+          wonCounter.increment();
+        }
+        result.complete(response);
+      } else {
+        close(response);
+      }
+      return;
+    }
+
+    // 5xx / 429 같은 실패 응답은 다른 시도를 기다리고, 둘 다 실패했을 때만 마지막 결과로 끝낸다
+    if (failures.incrementAndGet() < 2 || !decided.compareAndSet(false, true)) {
+      if (response != null) {
+        close(response);
+      }
+      return;
+    }
+    if (throwable != null) {
+      result.completeExceptionally(throwable);
+    } else {
+      result.complete(response);
+    }
+  }
+
+  private boolean isSuccessful(Response response) {
+    return response.status() < 400;
+  }
+
+  private Response await(CompletableFuture<Response> future) throws IOException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw rethrow(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.thenAccept(this::close);
+      throw new IOException(e);
+    }
+  }
+
+  private boolean isHedged(Request request) {
+    MethodMetadata metadata = request.requestTemplate().methodMetadata();
+    return request.httpMethod() == HttpMethod.GET
+        && metadata != null
+        && metadata.method() != null
+        && metadata.method().isAnnotationPresent(Hedged.class);
+  }
+
+  private Request rewrite(Request request, ServiceInstance instance) {
+    String url = LoadBalancerUriTools.reconstructURI(instance, URI.create(request.url()))
+        .toString();
+    return Request.create(request.httpMethod(), url, request.headers(), request.body(),
+        request.charset(), request.requestTemplate());
+  }
+
+  private Client unwrapLoadBalancer(Client client) {
+    if (client instanceof FeignBlockingLoadBalancerClient) {
+      return ((FeignBlockingLoadBalancerClient) client).getDelegate();
+    }
+    if (client instanceof RetryableFeignBlockingLoadBalancerClient) {
+      return ((RetryableFeignBlockingLoadBalancerClient) client).getDelegate();
+    }
+    return client;
+  }
+
+  private IOException rethrow(Throwable cause) {
+    if (cause instanceof UncheckedIOException) {
+      return ((UncheckedIOException) cause).getCause();
+    }
+    if (cause instanceof IOException) {
+      return (IOException) cause;
+    }
+    if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    }
+    return new IOException(cause);
+  }
+
+  private void close(Response response) {
+    try {
+      response.close();
+    } catch (RuntimeException e) {
+      log.debug("헤지 응답 close 실패", e);
+    }
+  }
+
+  private class HedgeMeters {
+
+    private final Counter requests;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter budgetExhausted;
+    private final Timer latency;
+
+    private HedgeMeters(String client) {
+      this.requests = Counter.builder("feign.hedging.requests")
+          .tag("client", client).register(meterRegistry);
+      this.sent = Counter.builder("feign.hedging.sent")
+          .tag("client", client).register(meterRegistry);
+      this.won = Counter.builder("feign.hedging.won")
+          .tag("client", client).register(meterRegistry);
+      this.budgetExhausted = Counter.builder("feign.hedging.budget.exhausted")
+          .tag("client", client).register(meterRegistry);
+      this.latency = Timer.builder("feign.hedging.latency")
+          .tag("client", client)
+          .publishPercentiles(0.95)
+          .distributionStatisticExpiry(Duration.ofMinutes(1))
+          .register(meterRegistry);
+    }
+
+    private Duration hedgeDelay() {
+      if (latency.count() < minSamples) {
+        return defaultDelay;
+      }
+      for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+        if (percentile.percentile() == 0.95) {
+          Duration p95 = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+          return p95.compareTo(minDelay) < 0 ? minDelay : p95;
+        }
+      }
+      return defaultDelay;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.jeontongju.auction.client.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기반 동시 요청 수 제한 (gradient 방식)
+ *
+ * <p>장기 평균 RTT 대비 현재 RTT 가 늘어나면 한도를 줄이고, 그렇지 않으면 sqrt(limit) 만큼 늘린다.
+ * 타임아웃 등으로 요청이 유실되면 한도를 즉시 줄인다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private static final double LONG_RTT_ALPHA = 2.0 / (600 + 1);
+  private static final double DROP_BACKOFF = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double smoothing;
+  private final double rttTolerance;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile double limit;
+  private double longRttNanos;
+
+  private final Counter rejected;
+
+  public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+      double smoothing, double rttTolerance, MeterRegistry meterRegistry) {
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.smoothing = smoothing;
+    this.rttTolerance = rttTolerance;
+
+    Gauge.builder("feign.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+        .tag("client", name)
+        .register(meterRegistry);
+    Gauge.builder("feign.concurrency.inflight", inFlight, AtomicInteger::get)
+        .tag("client", name)
+        .register(meterRegistry);
+    this.rejected = Counter.builder("feign.concurrency.rejected")
+        .tag("client", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * @return 허용되면 요청 시작 시점의 in-flight 수, 한도 초과면 -1
+   */
+  public int tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= getLimit()) {
+        rejected.increment();
+        return -1;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return current + 1;
+      }
+    }
+  }
+
+  public void onSuccess(int inFlightAtStart, long rttNanos) {
+    inFlight.decrementAndGet();
+    update(inFlightAtStart, rttNanos);
+  }
+
+  public void onDropped() {
+    inFlight.decrementAndGet();
+    synchronized (this) {
+      setLimit(limit * DROP_BACKOFF);
+    }
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private synchronized void update(int inFlightAtStart, long rttNanos) {
+    if (longRttNanos == 0) {
+      longRttNanos = rttNanos;
+    } else {
+      longRttNanos = longRttNanos * (1 - LONG_RTT_ALPHA) + rttNanos * LONG_RTT_ALPHA;
+    }
+
+    // 지연이 회복된 뒤에도 과거의 긴 RTT 에 묶이지 않도록 장기 평균을 빠르게 낮춘다
+    if (longRttNanos / rttNanos > 2) {
+      longRttNanos *= 0.95;
+    }
+
+    // 한도의 절반도 사용하지 않는 상태에서는 한도를 늘리지 않는다
+    if (inFlightAtStart < limit / 2) {
+      return;
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+    double newLimit = limit * gradient + Math.sqrt(limit);
+    setLimit(limit * (1 - smoothing) + newLimit * smoothing);
+  }
+
+  private void setLimit(double newLimit) {
+    limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+  }
+}
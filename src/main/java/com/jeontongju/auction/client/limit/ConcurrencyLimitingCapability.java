@@ -0,0 +1,83 @@
+package com.jeontongju.auction.client.limit;
+
+import com.jeontongju.auction.exception.ConcurrencyLimitExceededException;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 Feign 클라이언트에 대상 서비스별 {@link AdaptiveConcurrencyLimiter} 를 적용
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ConcurrencyLimitingCapability implements Capability {
+
+  private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double smoothing;
+  private final double rttTolerance;
+
+  public ConcurrencyLimitingCapability(MeterRegistry meterRegistry,
+      @Value("${feign-limit.initial-limit:20}") int initialLimit,
+      @Value("${feign-limit.min-limit:2}") int minLimit,
+      @Value("${feign-limit.max-limit:200}") int maxLimit,
+      @Value("${feign-limit.smoothing:0.2}") double smoothing,
+      @Value("${feign-limit.rtt-tolerance:1.5}") double rttTolerance) {
+    this.meterRegistry = meterRegistry;
+    this.initialLimit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.smoothing = smoothing;
+    this.rttTolerance = rttTolerance;
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> execute(client, request, options);
+  }
+
+  public AdaptiveConcurrencyLimiter getLimiter(String clientName) {
+    return limiters.computeIfAbsent(clientName, name ->
+        new AdaptiveConcurrencyLimiter(name, initialLimit, minLimit, maxLimit, smoothing,
+            rttTolerance, meterRegistry));
+  }
+
+  private Response execute(Client client, Request request, Options options) throws IOException {
+    String clientName = request.requestTemplate().feignTarget().name();
+    AdaptiveConcurrencyLimiter limiter = getLimiter(clientName);
+
+    int inFlightAtStart = limiter.tryAcquire();
+    if (inFlightAtStart < 0) {
+      throw new ConcurrencyLimitExceededException(clientName);
+    }
+
+    long start = System.nanoTime();
+    try {
+      Response response = client.execute(request, options);
+      if (response.status() == HttpStatus.SERVICE_UNAVAILABLE.value()
+          || response.status() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+        limiter.onDropped();
+      } else {
+        limiter.onSuccess(inFlightAtStart, System.nanoTime() - start);
+      }
+      return response;
+    } catch (IOException | RuntimeException e) {
+      limiter.onDropped();
+      throw e;
+    }
+  }
+}
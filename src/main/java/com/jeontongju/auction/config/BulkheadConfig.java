@@ -0,0 +1,74 @@
+package com.jeontongju.auction.config;
+
+import com.jeontongju.auction.config.BulkheadProperties.Pool;
+import com.jeontongju.auction.config.datasource.QueryScopeTaskDecorator;
+import com.jeontongju.auction.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 입찰 / 채팅 / 관리자 조회 / 브로드캐스트 작업을 서로 다른 실행 풀로 분리
+ *
+ * <p>풀 사용량은 Boot 의 executor 메트릭(name=빈 이름)으로, 거절 건수는 auction.bulkhead.rejected 로 노출된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+  public static final String BID = "bid";
+  public static final String CHAT = "chat";
+  public static final String ADMIN = "admin";
+  public static final String FANOUT = "fanout";
+
+  private final BulkheadProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Bean
+  public ThreadPoolTaskExecutor bidExecutor() {
+    return create(BID, properties.getBid());
+  }
+
+  @Bean
+  public ThreadPoolTaskExecutor chatExecutor() {
+    return create(CHAT, properties.getChat());
+  }
+
+  @Bean
+  public ThreadPoolTaskExecutor adminExecutor() {
+    return create(ADMIN, properties.getAdmin());
+  }
+
+  @Bean
+  public ThreadPoolTaskExecutor fanoutExecutor() {
+    return create(FANOUT, properties.getFanout());
+  }
+
+  ThreadPoolTaskExecutor create(String name, Pool pool) {
+    Counter rejected = Counter.builder("auction.bulkhead.rejected")
+        .tag("bulkhead", name)
+        .register(meterRegistry);
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(name + "-");
+    executor.setCorePoolSize(pool.getCoreSize());
+    executor.setMaxPoolSize(pool.getMaxSize());
+    executor.setQueueCapacity(pool.getQueueCapacity());
+    executor.setThreadPriority(pool.getThreadPriority());
+    executor.setTaskDecorator(new QueryScopeTaskDecorator());
+    executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
+      rejected.increment();
+      if (pool.isCallerRunsOnFull() && !threadPoolExecutor.isShutdown()) {
+        runnable.run();
+        return;
+      }
+      throw new BulkheadFullException(name);
+    });
+    return executor;
+  }
+}
@@ -0,0 +1,35 @@
+package com.jeontongju.auction.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 작업 종류별 실행 풀 설정 (auction.bulkhead.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auction.bulkhead")
+public class BulkheadProperties {
+
+  private Pool bid = new Pool(16, 32, 200, Thread.MAX_PRIORITY, false);
+  private Pool chat = new Pool(4, 8, 500, Thread.NORM_PRIORITY, false);
+  private Pool admin = new Pool(2, 4, 50, Thread.MIN_PRIORITY, false);
+  private Pool fanout = new Pool(4, 8, 1000, Thread.NORM_PRIORITY, true);
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Pool {
+
+    private int coreSize;
+    private int maxSize;
+    private int queueCapacity;
+    private int threadPriority;
+    // true 면 풀이 가득 찼을 때 거절하지 않고 호출 스레드에서 실행한다 (Kafka 리스너 배압용)
+    private boolean callerRunsOnFull;
+  }
+}
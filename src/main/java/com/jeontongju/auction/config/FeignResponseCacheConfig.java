@@ -0,0 +1,65 @@
+package com.jeontongju.auction.config;
+
+import com.jeontongju.auction.client.cache.FeignResponseCache;
+import io.github.bitbox.bitbox.dto.MemberDto;
+import io.github.bitbox.bitbox.dto.SellerInfoForAuctionDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class FeignResponseCacheConfig {
+
+  @Value("${feign-cache.latency-budget-millis:1500}")
+  private long latencyBudgetMillis;
+
+  @Value("${feign-cache.max-staleness-minutes:60}")
+  private long maxStalenessMinutes;
+
+  // 입찰 가능 여부를 판단하는 포인트/크레딧은 오래된 값을 짧게만 허용한다
+  @Value("${feign-cache.consumer.max-staleness-seconds:30}")
+  private long consumerMaxStalenessSeconds;
+
+  @Value("${feign-cache.max-entries:10000}")
+  private int maxEntries;
+
+  @Bean
+  public ThreadPoolTaskExecutor feignCallExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("feign-call-");
+    executor.setCorePoolSize(8);
+    executor.setMaxPoolSize(32);
+    executor.setQueueCapacity(100);
+    // 풀이 가득 차면 즉시 거절하고, FeignResponseCache 가 마지막 정상값으로 대신한다
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    return executor;
+  }
+
+  @Bean
+  public FeignResponseCache<Long, MemberDto> consumerInfoCache(MeterRegistry meterRegistry) {
+    return create("consumer-service", Duration.ofSeconds(consumerMaxStalenessSeconds),
+        meterRegistry);
+  }
+
+  @Bean
+  public FeignResponseCache<Long, SellerInfoForAuctionDto> sellerInfoCache(
+      MeterRegistry meterRegistry) {
+    return create("seller-service", Duration.ofMinutes(maxStalenessMinutes), meterRegistry);
+  }
+
+  private <K, V> FeignResponseCache<K, V> create(String name, Duration maxStaleness,
+      MeterRegistry meterRegistry) {
+    return new FeignResponseCache<>(
+        name,
+        feignCallExecutor(),
+        Duration.ofMillis(latencyBudgetMillis),
+        maxStaleness,
+        maxEntries,
+        meterRegistry
+    );
+  }
+}
@@ -0,0 +1,37 @@
+package com.jeontongju.auction.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 경매 / 경매 상품 2차 캐시와 쿼리 캐시 (JCache + Ehcache)
+ *
+ * <p>캐시 영역 설정은 ehcache.xml 에 있다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+  @Value("${hibernate-cache.enabled:true}")
+  private boolean enabled;
+
+  @Bean
+  public HibernatePropertiesCustomizer hibernateCacheCustomizer() {
+    return properties -> {
+      if (!enabled) {
+        return;
+      }
+      properties.put("hibernate.cache.use_second_level_cache", true);
+      properties.put("hibernate.cache.use_query_cache", true);
+      properties.put("hibernate.cache.region.factory_class", "jcache");
+      properties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+      properties.put("hibernate.javax.cache.uri", "ehcache.xml");
+      // mappedBy 쪽 컬렉션 캐시는 자식 저장 시 자동으로 비워지지 않는다
+      properties.put("hibernate.cache.auto_evict_collection_cache", true);
+      // 적중률 메트릭용 통계, 세션마다 남는 통계 로그는 끈다
+      properties.put("hibernate.generate_statistics", true);
+      properties.put("hibernate.session.events.log", false);
+    };
+  }
+}
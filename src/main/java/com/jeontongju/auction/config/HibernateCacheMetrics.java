@@ -0,0 +1,79 @@
+package com.jeontongju.auction.config;
+
+import com.jeontongju.auction.domain.common.CacheRegion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2차 캐시 / 쿼리 캐시 영역별 적중, 미스, 저장 횟수와 적중률
+ */
+@Component
+@ConditionalOnProperty(name = "hibernate-cache.enabled", matchIfMissing = true)
+public class HibernateCacheMetrics implements SmartInitializingSingleton {
+
+  private static final List<String> DOMAIN_REGIONS = List.of(
+      CacheRegion.AUCTION, CacheRegion.AUCTION_PRODUCT, CacheRegion.AUCTION_PRODUCT_LIST);
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final MeterRegistry meterRegistry;
+
+  public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory,
+      MeterRegistry meterRegistry) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    DOMAIN_REGIONS.forEach(region ->
+        bind(region, () -> statistics.getDomainDataRegionStatistics(region)));
+    bind(CacheRegion.AUCTION_CATALOG,
+        () -> statistics.getQueryRegionStatistics(CacheRegion.AUCTION_CATALOG));
+  }
+
+  private void bind(String region, RegionStatisticsSupplier supplier) {
+    counter("hit", region, supplier, CacheRegionStatistics::getHitCount);
+    counter("miss", region, supplier, CacheRegionStatistics::getMissCount);
+    counter("put", region, supplier, CacheRegionStatistics::getPutCount);
+
+    Gauge.builder("hibernate.cache.hit.ratio", supplier, s -> {
+          CacheRegionStatistics stat = s.get();
+          if (stat == null || stat.getHitCount() + stat.getMissCount() == 0) {
+            return 0;
+          }
+          return (double) stat.getHitCount() / (stat.getHitCount() + stat.getMissCount());
+        })
+        .tag("region", region)
+        .register(meterRegistry);
+  }
+
+  private void counter(String result, String region, RegionStatisticsSupplier supplier,
+      ToLongFunction<CacheRegionStatistics> count) {
+    FunctionCounter.builder("hibernate.cache.requests", supplier, s -> {
+          CacheRegionStatistics stat = s.get();
+          return stat == null ? 0 : count.applyAsLong(stat);
+        })
+        .tag("region", region)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  // 영역은 처음 사용될 때 만들어지므로 매번 다시 조회한다
+  @FunctionalInterface
+  private interface RegionStatisticsSupplier {
+
+    CacheRegionStatistics get();
+  }
+}
@@ -0,0 +1,21 @@
+package com.jeontongju.auction.config;
+
+import com.jeontongju.auction.config.datasource.QueryMetricsRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "query-metrics.enabled", matchIfMissing = true)
+public class QueryMetricsConfig implements WebMvcConfigurer {
+
+  private final QueryMetricsRecorder queryMetricsRecorder;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new QueryMetricsInterceptor(queryMetricsRecorder));
+  }
+}
@@ -0,0 +1,61 @@
+package com.jeontongju.auction.config;
+
+import com.jeontongju.auction.config.datasource.QueryMetricsRecorder;
+import com.jeontongju.auction.config.datasource.QueryScope;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 컨트롤러 메서드 단위로 SQL 통계를 묶는 인터셉터
+ *
+ * <p>비동기 응답은 요청 스레드에서는 범위만 떼어내고, executor 에서 이어받은 SQL 까지 합쳐
+ * 비동기 재디스패치가 끝날 때 기록한다. 비동기 재디스패치에서는 범위를 새로 열지 않는다.
+ */
+@RequiredArgsConstructor
+public class QueryMetricsInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String TYPE = "http";
+  private static final String SCOPE_ATTRIBUTE = QueryMetricsInterceptor.class.getName() + ".scope";
+
+  private final QueryMetricsRecorder queryMetricsRecorder;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+      HandlerMethod handlerMethod = (HandlerMethod) handler;
+      String endpoint = handlerMethod.getBeanType().getSimpleName() + "."
+          + handlerMethod.getMethod().getName();
+      request.setAttribute(SCOPE_ATTRIBUTE, queryMetricsRecorder.open(TYPE, endpoint));
+    }
+    return true;
+  }
+
+  // 요청 스레드가 다음 요청에 범위를 물려주지 않도록 떼어내기만 한다
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+    if (scope != null) {
+      ((QueryScope) scope).close();
+    }
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    close(request);
+  }
+
+  private void close(HttpServletRequest request) {
+    Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+    if (scope != null) {
+      request.removeAttribute(SCOPE_ATTRIBUTE);
+      queryMetricsRecorder.close((QueryScope) scope);
+    }
+  }
+}
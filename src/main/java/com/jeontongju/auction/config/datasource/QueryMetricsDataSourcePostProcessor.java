@@ -0,0 +1,167 @@
+package com.jeontongju.auction.config.datasource;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션이 사용하는 dataSource 빈을 감싸 SQL 실행 횟수, JDBC 실행 시간, 읽은 행 수를 QueryScope 에 기록한다
+ *
+ * <p>replica 구성에서는 라우팅 데이터소스(@Primary dataSource)만 감싸서 primary / replica 를 중복 집계하지 않는다.
+ * 열린 QueryScope 가 없으면 시간을 재지 않고 그대로 위임한다.
+ */
+@Component
+@ConditionalOnProperty(name = "query-metrics.enabled", matchIfMissing = true)
+public class QueryMetricsDataSourcePostProcessor implements BeanPostProcessor {
+
+  private static final String DATA_SOURCE_BEAN = "dataSource";
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource)) {
+      return bean;
+    }
+
+    // 종료 시 커넥션 풀이 닫히도록 Closeable 도 함께 노출한다
+    Class<?>[] interfaces = bean instanceof Closeable
+        ? new Class<?>[]{DataSource.class, Closeable.class}
+        : new Class<?>[]{DataSource.class};
+    return proxy(bean, interfaces, new DataSourceHandler(bean));
+  }
+
+  private static Object proxy(Object target, Class<?>[] interfaces, InvocationHandler handler) {
+    return Proxy.newProxyInstance(
+        QueryMetricsDataSourcePostProcessor.class.getClassLoader(), interfaces, handler);
+  }
+
+  private abstract static class DelegatingHandler implements InvocationHandler {
+
+    protected final Object target;
+
+    private DelegatingHandler(Object target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          return handle(method, args);
+      }
+    }
+
+    protected abstract Object handle(Method method, Object[] args) throws Throwable;
+
+    protected Object delegate(Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    }
+  }
+
+  private static class DataSourceHandler extends DelegatingHandler {
+
+    private DataSourceHandler(Object target) {
+      super(target);
+    }
+
+    @Override
+    protected Object handle(Method method, Object[] args) throws Throwable {
+      Object result = delegate(method, args);
+      if (result instanceof Connection) {
+        return proxy(result, new Class<?>[]{Connection.class}, new ConnectionHandler(result));
+      }
+      return result;
+    }
+  }
+
+  private static class ConnectionHandler extends DelegatingHandler {
+
+    private ConnectionHandler(Object target) {
+      super(target);
+    }
+
+    @Override
+    protected Object handle(Method method, Object[] args) throws Throwable {
+      Object result = delegate(method, args);
+      if (result instanceof CallableStatement) {
+        return proxy(result, new Class<?>[]{CallableStatement.class}, new StatementHandler(result));
+      }
+      if (result instanceof PreparedStatement) {
+        return proxy(result, new Class<?>[]{PreparedStatement.class}, new StatementHandler(result));
+      }
+      if (result instanceof Statement) {
+        return proxy(result, new Class<?>[]{Statement.class}, new StatementHandler(result));
+      }
+      return result;
+    }
+  }
+
+  private static class StatementHandler extends DelegatingHandler {
+
+    private StatementHandler(Object target) {
+      super(target);
+    }
+
+    @Override
+    protected Object handle(Method method, Object[] args) throws Throwable {
+      QueryScope scope = QueryScope.current();
+      if (scope == null) {
+        return delegate(method, args);
+      }
+
+      Object result;
+      if (method.getName().startsWith("execute")) {
+        long startedAt = System.nanoTime();
+        try {
+          result = delegate(method, args);
+        } finally {
+          scope.recordStatement(System.nanoTime() - startedAt);
+        }
+      } else {
+        result = delegate(method, args);
+      }
+
+      if (result instanceof ResultSet && !"getGeneratedKeys".equals(method.getName())) {
+        return proxy(result, new Class<?>[]{ResultSet.class}, new ResultSetHandler(result));
+      }
+      return result;
+    }
+  }
+
+  private static class ResultSetHandler extends DelegatingHandler {
+
+    private ResultSetHandler(Object target) {
+      super(target);
+    }
+
+    @Override
+    protected Object handle(Method method, Object[] args) throws Throwable {
+      Object result = delegate(method, args);
+      if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+        QueryScope scope = QueryScope.current();
+        if (scope != null) {
+          scope.recordRow();
+        }
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.jeontongju.auction.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔드포인트 / Kafka 리스너별 SQL 실행 횟수, JDBC 실행 시간, 읽은 행 수 메트릭
+ *
+ * <p>실행 횟수가 예산을 넘으면 경고 로그를 남겨 운영 중 새로 생긴 N+1 을 잡는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "query-metrics.enabled", matchIfMissing = true)
+public class QueryMetricsRecorder {
+
+  private final MeterRegistry meterRegistry;
+  private final int statementBudget;
+
+  public QueryMetricsRecorder(MeterRegistry meterRegistry,
+      @Value("${query-metrics.statement-budget:20}") int statementBudget) {
+    this.meterRegistry = meterRegistry;
+    this.statementBudget = statementBudget;
+  }
+
+  public QueryScope open(String type, String endpoint) {
+    return QueryScope.open(type, endpoint);
+  }
+
+  public void close(QueryScope scope) {
+    if (scope == null) {
+      return;
+    }
+    scope.close();
+
+    String type = scope.getType();
+    String endpoint = scope.getEndpoint();
+
+    DistributionSummary.builder("sql.statements")
+        .tag("type", type)
+        .tag("endpoint", endpoint)
+        .register(meterRegistry)
+        .record(scope.getStatements());
+    DistributionSummary.builder("sql.rows")
+        .tag("type", type)
+        .tag("endpoint", endpoint)
+        .register(meterRegistry)
+        .record(scope.getRows());
+    Timer.builder("sql.jdbc.time")
+        .tag("type", type)
+        .tag("endpoint", endpoint)
+        .register(meterRegistry)
+        .record(scope.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+    if (scope.getStatements() > statementBudget) {
+      Counter.builder("sql.statements.over-budget")
+          .tag("type", type)
+          .tag("endpoint", endpoint)
+          .register(meterRegistry)
+          .increment();
+      log.warn("SQL 실행 횟수 초과 - {} {} : {}회 (예산 {}회), JDBC {} ms, {} rows", type, endpoint,
+          scope.getStatements(), statementBudget,
+          TimeUnit.NANOSECONDS.toMillis(scope.getJdbcNanos()), scope.getRows());
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.jeontongju.auction.config.datasource;
+
+import lombok.Getter;
+
+/**
+ * 요청 / Kafka 레코드 하나를 처리하는 동안 실행한 SQL 통계
+ *
+ * <p>처리 스레드에 묶인다. 비동기 executor 에서 실행한 SQL 은 {@link QueryScopeTaskDecorator} 로
+ * 작업을 넘긴 스레드의 범위를 이어받아 함께 집계한다.
+ */
+@Getter
+public final class QueryScope {
+
+  private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+  private final String type;
+  private final String endpoint;
+  private int statements;
+  private long jdbcNanos;
+  private long rows;
+
+  private QueryScope(String type, String endpoint) {
+    this.type = type;
+    this.endpoint = endpoint;
+  }
+
+  // 이미 열린 범위가 있으면 바깥 범위에 합산되도록 null 을 돌려준다
+  public static QueryScope open(String type, String endpoint) {
+    if (CURRENT.get() != null) {
+      return null;
+    }
+    QueryScope scope = new QueryScope(type, endpoint);
+    CURRENT.set(scope);
+    return scope;
+  }
+
+  public static QueryScope current() {
+    return CURRENT.get();
+  }
+
+  // 다른 스레드에서 같은 범위에 합산하도록 묶고, 되돌릴 수 있게 그 스레드의 이전 범위를 돌려준다
+  static QueryScope bind(QueryScope scope) {
+    QueryScope previous = CURRENT.get();
+    restore(scope);
+    return previous;
+  }
+
+  static void restore(QueryScope scope) {
+    if (scope == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(scope);
+    }
+  }
+
+  // 현재 스레드에서 범위를 떼어낸다. 집계는 QueryMetricsRecorder.close 에서 기록한다
+  public void close() {
+    if (CURRENT.get() == this) {
+      CURRENT.remove();
+    }
+  }
+
+  synchronized void recordStatement(long elapsedNanos) {
+    statements++;
+    jdbcNanos += elapsedNanos;
+  }
+
+  synchronized void recordRow() {
+    rows++;
+  }
+}
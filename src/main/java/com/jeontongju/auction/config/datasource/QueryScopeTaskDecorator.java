@@ -0,0 +1,25 @@
+package com.jeontongju.auction.config.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 작업을 넘긴 스레드의 QueryScope 를 executor 스레드로 이어서, 비동기 작업의 SQL 도 요청 엔드포인트로 집계한다
+ */
+public class QueryScopeTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    QueryScope scope = QueryScope.current();
+    if (scope == null) {
+      return runnable;
+    }
+    return () -> {
+      QueryScope previous = QueryScope.bind(scope);
+      try {
+        runnable.run();
+      } finally {
+        QueryScope.restore(previous);
+      }
+    };
+  }
+}
@@ -0,0 +1,97 @@
+package com.jeontongju.auction.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * replica 복제 지연 감시
+ *
+ * <p>주기적으로 replica 의 지연(초)을 조회해, 허용치를 넘거나 조회에 실패하면
+ * 읽기 전용 트랜잭션도 primary 로 보내도록 {@link #isUsable()} 를 내린다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+  private final DataSource replicaDataSource;
+  private final String lagQuery;
+  private final String lagColumn;
+  private final long maxLagSeconds;
+  private final ScheduledExecutorService scheduler;
+
+  private volatile long lagSeconds = -1L;
+  private volatile boolean usable = false;
+
+  public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, String lagColumn,
+      long maxLagSeconds) {
+    this.replicaDataSource = replicaDataSource;
+    this.lagQuery = lagQuery;
+    this.lagColumn = lagColumn;
+    this.maxLagSeconds = maxLagSeconds;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "replica-lag-monitor");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    Gauge.builder("datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+        .register(meterRegistry);
+  }
+
+  public void start(Duration interval) {
+    scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public void shutdown() {
+    scheduler.shutdown();
+  }
+
+  public boolean isUsable() {
+    return usable;
+  }
+
+  void check() {
+    try (Connection connection = replicaDataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(lagQuery)) {
+
+      // 복제 상태가 없으면 지연 없음으로 본다
+      if (!resultSet.next()) {
+        update(0L);
+        return;
+      }
+
+      long lag = resultSet.getLong(lagColumn);
+      // 복제가 멈춘 경우 지연 값이 NULL 이다
+      update(resultSet.wasNull() ? -1L : lag);
+    } catch (SQLException | RuntimeException e) {
+      log.warn("replica 지연 조회 실패, primary 로 읽기 전환", e);
+      update(-1L);
+    }
+  }
+
+  private void update(long lag) {
+    boolean nowUsable = lag >= 0 && lag <= maxLagSeconds;
+    if (usable != nowUsable) {
+      log.info("replica 읽기 {}, lag : {}s", nowUsable ? "사용" : "중단", lag);
+    }
+    lagSeconds = lag;
+    usable = nowUsable;
+  }
+}
@@ -0,0 +1,75 @@
+package com.jeontongju.auction.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * primary / replica 데이터소스 설정
+ *
+ * <p>spring.datasource.replica.jdbc-url 이 있을 때만 켜지고, 없으면 기본 단일 데이터소스를 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.jdbc-url")
+public class ReplicationDataSourceConfig {
+
+  @Value("${replica-lag.query:SHOW REPLICA STATUS}")
+  private String lagQuery;
+
+  @Value("${replica-lag.column:Seconds_Behind_Source}")
+  private String lagColumn;
+
+  @Value("${replica-lag.max-seconds:5}")
+  private long maxLagSeconds;
+
+  @Value("${replica-lag.check-interval-millis:1000}")
+  private long checkIntervalMillis;
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.replica")
+  public HikariDataSource replicaDataSource() {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource) {
+    ReplicaLagMonitor monitor =
+        new ReplicaLagMonitor(replicaDataSource, lagQuery, lagColumn, maxLagSeconds);
+    monitor.start(Duration.ofMillis(checkIntervalMillis));
+    return monitor;
+  }
+
+  @Bean
+  public ReplicationRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+      HikariDataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+    return new ReplicationRoutingDataSource(
+        primaryDataSource, replicaDataSource, replicaLagMonitor);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+}
@@ -0,0 +1,68 @@
+package com.jeontongju.auction.config.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외에는 primary 로 보내는 데이터소스
+ *
+ * <p>트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 시점에 커넥션을 고르게 한다.
+ * 데이터소스 메트릭 바인더와 순환 참조가 생기지 않도록 MeterRegistry 는 주입받지 않고 MeterBinder 로 등록한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource
+    implements MeterBinder {
+
+  public enum Route {
+    PRIMARY, REPLICA
+  }
+
+  private final ReplicaLagMonitor lagMonitor;
+  private final LongAdder primaryRouted = new LongAdder();
+  private final LongAdder replicaRouted = new LongAdder();
+  private final LongAdder lagFallback = new LongAdder();
+
+  public ReplicationRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+      ReplicaLagMonitor lagMonitor) {
+    this.lagMonitor = lagMonitor;
+    setTargetDataSources(
+        Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+    setDefaultTargetDataSource(primaryDataSource);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    FunctionCounter.builder("datasource.route", primaryRouted, LongAdder::sum)
+        .tag("route", "primary")
+        .register(meterRegistry);
+    FunctionCounter.builder("datasource.route", replicaRouted, LongAdder::sum)
+        .tag("route", "replica")
+        .register(meterRegistry);
+    FunctionCounter.builder("datasource.route.fallback", lagFallback, LongAdder::sum)
+        .tag("reason", "replica-lag")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      primaryRouted.increment();
+      return Route.PRIMARY;
+    }
+
+    if (!lagMonitor.isUsable()) {
+      lagFallback.increment();
+      primaryRouted.increment();
+      return Route.PRIMARY;
+    }
+
+    replicaRouted.increment();
+    return Route.REPLICA;
+  }
+}
@@ -1,25 +1,42 @@
 package com.jeontongju.auction.controller;
 
 import com.jeontongju.auction.dto.request.AuctionModifyRequestDto;
+import com.jeontongju.auction.dto.request.AuctionProductConfirmRequestDto;
 import com.jeontongju.auction.dto.request.AuctionProductRegisterRequestDto;
 import com.jeontongju.auction.dto.request.AuctionRegisterRequestDto;
 import com.jeontongju.auction.dto.response.AdminAuctionResponseDto;
 import com.jeontongju.auction.dto.response.AuctionDetailResponseDto;
+import com.jeontongju.auction.dto.response.AuctionProductConfirmResponseDto;
 import com.jeontongju.auction.dto.response.ConsumerAuctionBidResponseDto;
+import com.jeontongju.auction.dto.response.CursorPageResponseDto;
 import com.jeontongju.auction.dto.response.SellerAuctionEntriesResponseDto;
 import com.jeontongju.auction.dto.response.SellerAuctionResponseDto;
 import com.jeontongju.auction.enums.AuctionProductStatusEnum;
+import com.jeontongju.auction.enums.BidExportFormatEnum;
 import com.jeontongju.auction.service.AuctionService;
+import com.jeontongju.auction.service.BidExportService;
+import com.jeontongju.auction.service.ThisAuctionDetailResponseCache;
+import com.jeontongju.auction.service.ThisAuctionDetailResponseCache.Snapshot;
 import io.github.bitbox.bitbox.dto.ResponseFormat;
 import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -28,7 +45,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -36,6 +55,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuctionController {
 
   private final AuctionService auctionService;
+  private final ThreadPoolTaskExecutor adminExecutor;
+  private final ThisAuctionDetailResponseCache thisAuctionDetailResponseCache;
+  private final BidExportService bidExportService;
 
   @GetMapping("/seller")
   public ResponseEntity<ResponseFormat<SellerAuctionResponseDto>> getRegistrableAuction() {
@@ -67,12 +89,30 @@ public class AuctionController {
         );
   }
 
+  @GetMapping("/detail/seller/cursor")
+  public ResponseEntity<ResponseFormat<CursorPageResponseDto<SellerAuctionEntriesResponseDto>>> getAuctionEntriesByCursor(
+      @RequestHeader Long memberId, @RequestHeader MemberRoleEnum memberRole,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "false") boolean count
+  ) {
+    return ResponseEntity.ok()
+        .body(
+            ResponseFormat.<CursorPageResponseDto<SellerAuctionEntriesResponseDto>>builder()
+                .code(HttpStatus.OK.value())
+                .message(HttpStatus.OK.getReasonPhrase())
+                .detail("경매 출품 내역 조회 성공")
+                .data(auctionService.getAuctionEntries(memberId, cursor, size, count))
+                .build()
+        );
+  }
+
   @GetMapping("/admin")
-  public ResponseEntity<ResponseFormat<Page<AdminAuctionResponseDto>>> getAdminAuction(
+  public CompletableFuture<ResponseEntity<ResponseFormat<Page<AdminAuctionResponseDto>>>> getAdminAuction(
       @RequestHeader MemberRoleEnum memberRole,
       @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
   ) {
-    return ResponseEntity.ok()
+    return CompletableFuture.supplyAsync(() -> ResponseEntity.ok()
         .body(
             ResponseFormat.<Page<AdminAuctionResponseDto>>builder()
                 .code(HttpStatus.OK.value())
@@ -80,13 +120,56 @@ public class AuctionController {
                 .detail("경매 목록 조회 성공")
                 .data(auctionService.getAdminAuction(pageable))
                 .build()
-        );
+        ), adminExecutor);
+  }
+
+  @GetMapping("/admin/cursor")
+  public CompletableFuture<ResponseEntity<ResponseFormat<CursorPageResponseDto<AdminAuctionResponseDto>>>> getAdminAuctionByCursor(
+      @RequestHeader MemberRoleEnum memberRole,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "false") boolean count
+  ) {
+    return CompletableFuture.supplyAsync(() -> ResponseEntity.ok()
+        .body(
+            ResponseFormat.<CursorPageResponseDto<AdminAuctionResponseDto>>builder()
+                .code(HttpStatus.OK.value())
+                .message(HttpStatus.OK.getReasonPhrase())
+                .detail("경매 목록 조회 성공")
+                .data(auctionService.getAdminAuction(cursor, size, count))
+                .build()
+        ), adminExecutor);
+  }
+
+  // 경매별(auctionId) 또는 기간별(from ~ to) 입찰 내역을 CSV / JSON lines 로 내려준다
+  @GetMapping("/admin/bid/export")
+  public ResponseEntity<StreamingResponseBody> exportBidInfo(
+      @RequestHeader MemberRoleEnum memberRole,
+      @RequestParam(required = false) String auctionId,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "CSV") BidExportFormatEnum format
+  ) {
+    bidExportService.validate(auctionId, from, to);
+    String fileName = "bid-" + (auctionId != null ? auctionId : from + "_" + to)
+        + "." + format.getExtension();
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(fileName).build().toString())
+        .body(outputStream -> bidExportService.export(auctionId, from, to, format, outputStream));
   }
 
   @GetMapping("/admin/detail/{auctionId}")
-  public ResponseEntity<ResponseFormat<AuctionDetailResponseDto>> getAdminAuctionDetail(
+  public CompletableFuture<ResponseEntity<ResponseFormat<AuctionDetailResponseDto>>> getAdminAuctionDetail(
       @RequestHeader MemberRoleEnum memberRole, @PathVariable String auctionId
   ) {
+    return CompletableFuture.supplyAsync(() -> adminAuctionDetail(auctionId), adminExecutor);
+  }
+
+  private ResponseEntity<ResponseFormat<AuctionDetailResponseDto>> adminAuctionDetail(
+      String auctionId) {
     AuctionDetailResponseDto adminAuctionDetail = auctionService.getAdminAuctionDetail(auctionId);
     String message = "진행 예정 경매 조회 성공";
     switch (adminAuctionDetail.getAuction().getStatus()) {
@@ -109,18 +192,16 @@ public class AuctionController {
         );
   }
 
+  // 미리 직렬화한 응답을 그대로 내려주고, If-None-Match 가 같으면 304 로 응답한다
   @GetMapping("/consumer/detail")
-  public ResponseEntity<ResponseFormat<AuctionDetailResponseDto>> getConsumerAuctionDetail() {
+  public ResponseEntity<byte[]> getConsumerAuctionDetail() {
+    Snapshot snapshot = thisAuctionDetailResponseCache.get();
 
     return ResponseEntity.ok()
-        .body(
-            ResponseFormat.<AuctionDetailResponseDto>builder()
-                .code(HttpStatus.OK.value())
-                .message(HttpStatus.OK.getReasonPhrase())
-                .detail("경매 조회 성공")
-                .data(auctionService.getThisAuctionDetail())
-                .build()
-        );
+        .contentType(MediaType.APPLICATION_JSON)
+        .cacheControl(CacheControl.noCache())
+        .eTag(snapshot.getEtag())
+        .body(snapshot.getBody());
   }
 
   @PostMapping("/product")
@@ -203,6 +284,22 @@ public class AuctionController {
         );
   }
 
+  @PatchMapping("/product/confirm")
+  public ResponseEntity<ResponseFormat<List<AuctionProductConfirmResponseDto>>> confirmAuctionProducts(
+      @RequestBody AuctionProductConfirmRequestDto request
+  ) {
+
+    return ResponseEntity.ok()
+        .body(
+            ResponseFormat.<List<AuctionProductConfirmResponseDto>>builder()
+                .code(HttpStatus.OK.value())
+                .message(HttpStatus.OK.getReasonPhrase())
+                .detail("경매 물품 일괄 승인 / 반려 성공")
+                .data(auctionService.confirmAuctionProducts(request))
+                .build()
+        );
+  }
+
   @GetMapping("/bid/consumer")
   public ResponseEntity<ResponseFormat<Page<ConsumerAuctionBidResponseDto>>> getConsumerBidInfo(
       @RequestHeader Long memberId,
@@ -220,13 +317,31 @@ public class AuctionController {
         );
   }
 
+  @GetMapping("/bid/consumer/cursor")
+  public ResponseEntity<ResponseFormat<CursorPageResponseDto<ConsumerAuctionBidResponseDto>>> getConsumerBidInfoByCursor(
+      @RequestHeader Long memberId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+
+    return ResponseEntity.ok()
+        .body(
+            ResponseFormat.<CursorPageResponseDto<ConsumerAuctionBidResponseDto>>builder()
+                .code(HttpStatus.OK.value())
+                .message(HttpStatus.OK.getReasonPhrase())
+                .detail("입찰 정보 조회 성공")
+                .data(auctionService.getConsumerBidInfo(memberId, cursor, size))
+                .build()
+        );
+  }
+
   @GetMapping("/bid/consumer/{consumerId}")
-  public ResponseEntity<ResponseFormat<Page<ConsumerAuctionBidResponseDto>>> getAdminConsumerBidInfo(
+  public CompletableFuture<ResponseEntity<ResponseFormat<Page<ConsumerAuctionBidResponseDto>>>> getAdminConsumerBidInfo(
       @PathVariable Long consumerId,
       @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
   ) {
 
-    return ResponseEntity.ok()
+    return CompletableFuture.supplyAsync(() -> ResponseEntity.ok()
         .body(
             ResponseFormat.<Page<ConsumerAuctionBidResponseDto>>builder()
                 .code(HttpStatus.OK.value())
@@ -234,6 +349,6 @@ public class AuctionController {
                 .detail("입찰 정보 조회 성공")
                 .data(auctionService.getConsumerBidInfo(consumerId, pageable))
                 .build()
-        );
+        ), adminExecutor);
   }
 }
@@ -6,12 +6,14 @@ import com.jeontongju.auction.dto.response.AuctionBroadcastBidHistoryResultRespo
 import com.jeontongju.auction.service.BroadcastingService;
 import io.github.bitbox.bitbox.dto.ResponseFormat;
 import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,24 +29,29 @@ import org.springframework.web.bind.annotation.RestController;
 public class BroadcastingController {
 
   private final BroadcastingService broadcastingService;
+  private final ThreadPoolTaskExecutor bidExecutor;
+  private final ThreadPoolTaskExecutor chatExecutor;
 
+  // 채팅 폭주가 인바운드 채널의 다른 프레임(CONNECT / SUBSCRIBE)을 막지 않도록 chatExecutor 로 넘긴다
   @MessageMapping("/chat/{auctionId}")
   public void pubMessage(ChatMessageRequestDto message,
       @DestinationVariable("auctionId") String auctionId) {
-    broadcastingService.sendMessageToKafka(message, auctionId);
+    chatExecutor.execute(() -> broadcastingService.sendMessageToKafka(message, auctionId));
   }
 
   @PostMapping("/api/auction/bid")
-  public ResponseEntity<ResponseFormat<Void>> bidProduct(
+  public CompletableFuture<ResponseEntity<ResponseFormat<Void>>> bidProduct(
       @RequestHeader Long memberId,
       @RequestBody AuctionBidRequestDto auctionBidRequestDto) {
-    broadcastingService.bidProduct(auctionBidRequestDto, memberId);
-    return ResponseEntity.ok().body(
-        ResponseFormat.<Void>builder()
-            .code(HttpStatus.OK.value())
-            .message(HttpStatus.OK.getReasonPhrase())
-            .detail("경매 입찰 성공")
-            .build());
+    return CompletableFuture.supplyAsync(() -> {
+      broadcastingService.bidProduct(auctionBidRequestDto, memberId);
+      return ResponseEntity.ok().body(
+          ResponseFormat.<Void>builder()
+              .code(HttpStatus.OK.value())
+              .message(HttpStatus.OK.getReasonPhrase())
+              .detail("경매 입찰 성공")
+              .build());
+    }, bidExecutor);
   }
 
   @PostMapping("/api/auction/streaming/{auctionId}")
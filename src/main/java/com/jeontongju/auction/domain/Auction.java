@@ -1,7 +1,11 @@
 package com.jeontongju.auction.domain;
 
 import com.jeontongju.auction.domain.common.BaseEntity;
+import com.jeontongju.auction.domain.common.BinaryUuidType;
+import com.jeontongju.auction.domain.common.CacheRegion;
+import com.jeontongju.auction.domain.common.TimeOrderedUuidGenerator;
 import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.util.IsoYearWeek;
 import java.time.LocalDateTime;
 import java.util.List;
 import javax.persistence.Column;
@@ -10,7 +14,10 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -19,20 +26,28 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Getter
 @SuperBuilder(toBuilder = true)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "auction")
+@Table(name = "auction", indexes = {
+    @Index(name = "idx_auction_deleted_created", columnList = "is_deleted, created_at, auction_id"),
+    @Index(name = "idx_auction_year_week", columnList = "year_week, is_deleted")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.AUCTION)
 public class Auction extends BaseEntity {
 
   @Id
-  @GeneratedValue(generator = "uuid2")
-  @GenericGenerator(name = "uuid2", strategy = "org.hibernate.id.UUIDGenerator")
-  @Column(name = "auction_id", columnDefinition = "CHAR(36)")
+  @GeneratedValue(generator = "uuid7")
+  @GenericGenerator(name = "uuid7", strategy = TimeOrderedUuidGenerator.STRATEGY)
+  @Type(type = BinaryUuidType.TYPE)
+  @Column(name = "auction_id", columnDefinition = BinaryUuidType.COLUMN_DEFINITION)
   private String auctionId;
 
   @NotNull
@@ -48,18 +63,36 @@ public class Auction extends BaseEntity {
   @Column(name = "end_date", columnDefinition = "TIMESTAMP")
   private LocalDateTime endDate;
 
+  // 같은 주차 경매 검사용 ISO 연-주차, 시작일이 바뀔 때마다 다시 계산한다
+  @Column(name = "year_week")
+  private Integer yearWeek;
+
   @NotNull
   @Builder.Default
   @Enumerated(EnumType.STRING)
   private AuctionStatusEnum status = AuctionStatusEnum.BEFORE;
 
+  // 승인(ALLOW)된 참여 셀러 수, 엔티티 저장으로는 바뀌지 않고 조건부 UPDATE 로만 증감한다
   @NotNull
   @Builder.Default
+  @Column(name = "reserved_slots", updatable = false)
+  private Integer reservedSlots = 0;
+
+  @NotNull
+  @Builder.Default
+  @Column(name = "is_deleted")
   private Boolean isDeleted = false;
 
   @OneToMany(mappedBy = "auction")
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.AUCTION_PRODUCT_LIST)
   List<AuctionProduct> auctionProductList;
 
   @OneToMany(mappedBy = "auction")
   List<BidInfo> bidInfoList;
+
+  @PrePersist
+  @PreUpdate
+  void updateYearWeek() {
+    yearWeek = IsoYearWeek.of(startDate.toLocalDate());
+  }
 }
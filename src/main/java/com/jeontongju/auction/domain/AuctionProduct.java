@@ -1,6 +1,9 @@
 package com.jeontongju.auction.domain;
 
 import com.jeontongju.auction.domain.common.BaseEntity;
+import com.jeontongju.auction.domain.common.BinaryUuidType;
+import com.jeontongju.auction.domain.common.CacheRegion;
+import com.jeontongju.auction.domain.common.TimeOrderedUuidGenerator;
 import com.jeontongju.auction.enums.AuctionProductStatusEnum;
 import java.util.List;
 import javax.persistence.Column;
@@ -15,6 +18,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -22,23 +26,31 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Getter
 @SuperBuilder(toBuilder = true)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "auction_product", indexes = @Index(name = "idx_seller_id", columnList = "seller_id"))
+@Table(name = "auction_product",
+    indexes = @Index(name = "idx_seller_created", columnList = "seller_id, created_at, auction_product_id"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_auction_seller", columnNames = {"auction_id", "seller_id"})
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.AUCTION_PRODUCT)
 public class AuctionProduct extends BaseEntity {
 
   @Id
-  @GeneratedValue(generator = "uuid2")
-  @GenericGenerator(name = "uuid2", strategy = "org.hibernate.id.UUIDGenerator")
-  @Column(name = "auction_product_id", columnDefinition = "CHAR(36)")
+  @GeneratedValue(generator = "uuid7")
+  @GenericGenerator(name = "uuid7", strategy = TimeOrderedUuidGenerator.STRATEGY)
+  @Type(type = BinaryUuidType.TYPE)
+  @Column(name = "auction_product_id", columnDefinition = BinaryUuidType.COLUMN_DEFINITION)
   private String auctionProductId;
 
-  @JoinColumn(name = "auction_id")
+  @JoinColumn(name = "auction_id", columnDefinition = BinaryUuidType.COLUMN_DEFINITION)
   @ManyToOne(fetch = FetchType.LAZY)
   private Auction auction;
 
@@ -0,0 +1,99 @@
+package com.jeontongju.auction.domain;
+
+import com.jeontongju.auction.domain.common.BaseEntity;
+import com.jeontongju.auction.domain.common.BinaryUuidType;
+import com.jeontongju.auction.dto.query.AuctionProductBidStatDto;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 경매 상품 낙찰 결과 요약
+ *
+ * <p>낙찰 시점에 한 번 기록하고, 조회 화면은 입찰 내역 대신 이 테이블을 읽는다.
+ */
+@Entity
+@Getter
+@SuperBuilder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "auction_product_result",
+    indexes = @Index(name = "idx_result_auction_id", columnList = "auction_id"))
+public class AuctionProductResult extends BaseEntity implements Persistable<String> {
+
+  @Id
+  @Type(type = BinaryUuidType.TYPE)
+  @Column(name = "auction_product_id", columnDefinition = BinaryUuidType.COLUMN_DEFINITION)
+  private String auctionProductId;
+
+  @NotNull
+  @Type(type = BinaryUuidType.TYPE)
+  @Column(name = "auction_id", columnDefinition = BinaryUuidType.COLUMN_DEFINITION)
+  private String auctionId;
+
+  @Column(name = "winner_consumer_id")
+  private Long winnerConsumerId;
+
+  @Column(name = "last_bid_price")
+  private Long lastBidPrice;
+
+  @NotNull
+  @Column(name = "total_bidder")
+  private Long totalBidder;
+
+  // 낙찰 시점 - 저장된 입찰 내역으로 생성
+  public static AuctionProductResult of(AuctionProduct auctionProduct, List<BidInfo> bidInfoList) {
+    BidInfo winningBid = bidInfoList.stream()
+        .max(Comparator.comparing(BidInfo::getBidPrice))
+        .orElseThrow();
+
+    return AuctionProductResult.builder()
+        .auctionProductId(auctionProduct.getAuctionProductId())
+        .auctionId(auctionProduct.getAuction().getAuctionId())
+        .winnerConsumerId(winningBid.getConsumerId())
+        .lastBidPrice(winningBid.getBidPrice())
+        .totalBidder((long) bidInfoList.stream()
+            .map(BidInfo::getConsumerId)
+            .collect(Collectors.toSet())
+            .size())
+        .build();
+  }
+
+  // 백필 - 상품 / 소비자별 최고 입찰가로 생성
+  public static AuctionProductResult of(List<AuctionProductBidStatDto> bidStatList) {
+    AuctionProductBidStatDto top = bidStatList.stream()
+        .max(Comparator.comparing(AuctionProductBidStatDto::getMaxBidPrice))
+        .orElseThrow();
+
+    return AuctionProductResult.builder()
+        .auctionProductId(top.getAuctionProductId())
+        .auctionId(top.getAuctionId())
+        .winnerConsumerId(top.getConsumerId())
+        .lastBidPrice(top.getMaxBidPrice())
+        .totalBidder((long) bidStatList.size())
+        .build();
+  }
+
+  @Override
+  public String getId() {
+    return auctionProductId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return getCreatedAt() == null;
+  }
+}
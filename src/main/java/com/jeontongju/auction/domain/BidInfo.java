@@ -1,6 +1,7 @@
 package com.jeontongju.auction.domain;
 
 import com.jeontongju.auction.domain.common.BaseEntity;
+import com.jeontongju.auction.domain.common.BinaryUuidType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -24,18 +25,24 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder(toBuilder = true)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "bid_info", indexes = @Index(name = "idx_consumer_id", columnList = "consumer_id"))
+@Table(name = "bid_info", indexes = {
+    @Index(name = "idx_consumer_product_price",
+        columnList = "consumer_id, auction_product_id, bid_price, created_at"),
+    @Index(name = "idx_product_is_bid", columnList = "auction_product_id, is_bid"),
+    @Index(name = "idx_bid_auction_created", columnList = "auction_id, created_at"),
+    @Index(name = "idx_bid_created", columnList = "created_at")
+})
 public class BidInfo extends BaseEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long bidInfoId;
 
-  @JoinColumn(name = "auction_id")
+  @JoinColumn(name = "auction_id", columnDefinition = BinaryUuidType.COLUMN_DEFINITION)
   @ManyToOne(fetch = FetchType.LAZY)
   private Auction auction;
 
-  @JoinColumn(name = "auction_product_id")
+  @JoinColumn(name = "auction_product_id", columnDefinition = BinaryUuidType.COLUMN_DEFINITION)
   @ManyToOne(fetch = FetchType.LAZY)
   private AuctionProduct auctionProduct;
 
@@ -44,9 +51,11 @@ public class BidInfo extends BaseEntity {
   private Long consumerId;
 
   @NotNull
+  @Column(name = "bid_price")
   private Long bidPrice;
 
   @NotNull
   @Builder.Default
+  @Column(name = "is_bid")
   private Boolean isBid = false;
 }
@@ -0,0 +1,82 @@
+package com.jeontongju.auction.domain.common;
+
+import com.jeontongju.auction.util.TimeOrderedUuid;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+/**
+ * 문자열 UUID 를 BINARY(16) 컬럼에 저장하는 타입
+ *
+ * <p>엔티티와 API 는 그대로 36자 문자열을 사용하고, DB 에는 16바이트로 저장한다.
+ */
+public class BinaryUuidType extends AbstractSingleColumnStandardBasicType<String> {
+
+  public static final String TYPE = "com.jeontongju.auction.domain.common.BinaryUuidType";
+  public static final String COLUMN_DEFINITION = "BINARY(16)";
+
+  public BinaryUuidType() {
+    super(BinaryTypeDescriptor.INSTANCE, UuidStringTypeDescriptor.INSTANCE);
+  }
+
+  @Override
+  public String getName() {
+    return "binary-uuid";
+  }
+
+  private static class UuidStringTypeDescriptor extends AbstractTypeDescriptor<String> {
+
+    private static final UuidStringTypeDescriptor INSTANCE = new UuidStringTypeDescriptor();
+
+    // 형식이 맞지 않는 id 는 발급될 수 없는 nil UUID 로 바인딩해 조회 결과 없음으로 처리한다
+    private static final byte[] NIL = new byte[16];
+
+    private UuidStringTypeDescriptor() {
+      super(String.class);
+    }
+
+    @Override
+    public String toString(String value) {
+      return value;
+    }
+
+    @Override
+    public String fromString(String string) {
+      return string;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+      if (value == null) {
+        return null;
+      }
+      if (byte[].class.isAssignableFrom(type)) {
+        try {
+          return (X) TimeOrderedUuid.toBytes(value);
+        } catch (IllegalArgumentException e) {
+          return (X) NIL.clone();
+        }
+      }
+      if (String.class.isAssignableFrom(type)) {
+        return (X) value;
+      }
+      throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof byte[]) {
+        return TimeOrderedUuid.fromBytes((byte[]) value);
+      }
+      if (value instanceof String) {
+        return (String) value;
+      }
+      throw unknownWrap(value.getClass());
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.jeontongju.auction.domain.common;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 영역 이름 (ehcache.xml 의 cache alias 와 일치해야 한다)
+ */
+public final class CacheRegion {
+
+  public static final String AUCTION = "auction";
+  public static final String AUCTION_PRODUCT = "auction-product";
+  public static final String AUCTION_PRODUCT_LIST = "auction-product-list";
+  public static final String AUCTION_CATALOG = "auction-catalog";
+
+  private CacheRegion() {
+  }
+}
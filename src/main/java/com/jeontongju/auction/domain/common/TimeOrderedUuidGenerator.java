@@ -0,0 +1,22 @@
+package com.jeontongju.auction.domain.common;
+
+import com.jeontongju.auction.util.TimeOrderedUuid;
+import java.io.Serializable;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * 경매 / 경매 상품 id 생성기
+ *
+ * <p>랜덤 UUID 대신 시간순 UUID 를 발급해 PK 인덱스에 순차적으로 삽입되게 한다.
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+  public static final String STRATEGY =
+      "com.jeontongju.auction.domain.common.TimeOrderedUuidGenerator";
+
+  @Override
+  public Serializable generate(SharedSessionContractImplementor session, Object object) {
+    return TimeOrderedUuid.generate().toString();
+  }
+}
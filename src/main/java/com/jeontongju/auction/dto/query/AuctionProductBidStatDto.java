@@ -0,0 +1,17 @@
+package com.jeontongju.auction.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 상품별 / 소비자별 최고 입찰가
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionProductBidStatDto {
+
+  private String auctionId;
+  private String auctionProductId;
+  private Long consumerId;
+  private Long maxBidPrice;
+}
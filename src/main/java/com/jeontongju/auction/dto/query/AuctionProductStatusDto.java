@@ -0,0 +1,17 @@
+package com.jeontongju.auction.dto.query;
+
+import com.jeontongju.auction.enums.AuctionProductStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일괄 승인 / 반려 대상 상품의 현재 상태
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionProductStatusDto {
+
+  private String auctionProductId;
+  private String auctionId;
+  private AuctionProductStatusEnum status;
+}
@@ -0,0 +1,25 @@
+package com.jeontongju.auction.dto.query;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 입찰 내역 내보내기 한 행
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BidExportDto {
+
+  private Long bidInfoId;
+  private String auctionId;
+  private String auctionTitle;
+  private String auctionProductId;
+  private String productName;
+  private Long sellerId;
+  private String storeName;
+  private Long consumerId;
+  private Long bidPrice;
+  private Boolean isBid;
+  private LocalDateTime bidAt;
+}
@@ -0,0 +1,21 @@
+package com.jeontongju.auction.dto.request;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionProductConfirmRequestDto {
+
+  @Builder.Default
+  private List<String> allow = new ArrayList<>();
+
+  @Builder.Default
+  private List<String> deny = new ArrayList<>();
+}
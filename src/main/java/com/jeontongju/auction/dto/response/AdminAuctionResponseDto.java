@@ -1,9 +1,11 @@
 package com.jeontongju.auction.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jeontongju.auction.domain.Auction;
 import com.jeontongju.auction.enums.AuctionProductStatusEnum;
 import com.jeontongju.auction.enums.AuctionStatusEnum;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import lombok.AllArgsConstructor;
@@ -24,6 +26,10 @@ public class AdminAuctionResponseDto extends AuctionResponseDto {
   private Long deny;
   private Long participation;
 
+  // keyset 커서용
+  @JsonIgnore
+  private LocalDateTime createdAt;
+
   public AdminAuctionResponseDto(Auction auction) {
     super(auction.getAuctionId(), auction.getTitle(), auction.getDescription(),
         auction.getStartDate(), auction.getEndDate(), auction.getStatus());
@@ -41,6 +47,22 @@ public class AdminAuctionResponseDto extends AuctionResponseDto {
     }
   }
 
+  // 상태별 상품 수를 집계 쿼리로 가져온 경우
+  public AdminAuctionResponseDto(String auctionId, String title, String description,
+      LocalDateTime startDate, LocalDateTime endDate, AuctionStatusEnum status,
+      Long wait, Long allow, Long deny, LocalDateTime createdAt) {
+    super(auctionId, title, description, startDate, endDate, status);
+    this.createdAt = createdAt;
+
+    if (status.equals(AuctionStatusEnum.AFTER)) {
+      this.participation = allow;
+    } else {
+      this.wait = wait;
+      this.allow = allow;
+      this.deny = deny;
+    }
+  }
+
   public <T> Long countFilteredNumbers(List<T> list,
       java.util.function.Predicate<? super T> predicate) {
     if (Objects.isNull(list))
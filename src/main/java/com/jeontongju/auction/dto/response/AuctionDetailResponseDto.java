@@ -1,11 +1,10 @@
 package com.jeontongju.auction.dto.response;
 
-import com.jeontongju.auction.domain.Auction;
-import com.jeontongju.auction.domain.AuctionProduct;
+import com.jeontongju.auction.domain.AuctionProductResult;
 import com.jeontongju.auction.enums.AuctionStatusEnum;
-import com.jeontongju.auction.exception.AuctionNotFoundException;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -23,22 +22,43 @@ public class AuctionDetailResponseDto {
   private AuctionResponseDto auction;
   private List<? extends AuctionProductResponseDto> productList;
 
-  public static AuctionDetailResponseDto of(Auction auction) {
+  /**
+   * 진행 완료 경매는 상품별 낙찰 결과를 함께 담는다
+   *
+   * @param auction
+   * @param productList
+   * @param resultList 상품별 낙찰 결과 (진행 완료 경매만)
+   * @return AuctionDetailResponseDto
+   */
+  public static AuctionDetailResponseDto of(AuctionResponseDto auction,
+      List<AuctionProductResponseDto> productList, List<AuctionProductResult> resultList) {
+    if (auction.getStatus() != AuctionStatusEnum.AFTER) {
+      return AuctionDetailResponseDto.builder()
+          .auction(auction)
+          .productList(productList)
+          .build();
+    }
+
+    Map<String, AuctionProductResult> resultMap = resultList.stream()
+        .collect(Collectors.toMap(AuctionProductResult::getAuctionProductId, Function.identity()));
+
     return AuctionDetailResponseDto.builder()
-        .auction(
-            Optional.of(auction).map(AuctionResponseDto::new)
-                .orElseThrow(AuctionNotFoundException::new)
-        )
+        .auction(auction)
         .productList(
-            auction.getAuctionProductList() == null ? null :
-                auction.getAuctionProductList().stream()
-                    .map(
-                        auction.getStatus() == AuctionStatusEnum.AFTER ?
-                            AuctionProductBidResponseDto::new
-                            : AuctionProductResponseDto::new
-                    ).collect(
-                        Collectors.toList())
+            productList.stream()
+                .map(product -> toBidResponse(product, resultMap.get(product.getAuctionProductId())))
+                .collect(Collectors.toList())
         )
         .build();
   }
+
+  private static AuctionProductBidResponseDto toBidResponse(AuctionProductResponseDto product,
+      AuctionProductResult result) {
+    if (result == null) {
+      return new AuctionProductBidResponseDto(product, null, null, null);
+    }
+
+    return new AuctionProductBidResponseDto(product, result.getWinnerConsumerId(),
+        result.getLastBidPrice(), result.getTotalBidder());
+  }
 }
@@ -50,4 +50,22 @@ public class AuctionProductBidResponseDto extends AuctionProductResponseDto {
             .collect(Collectors.toSet())
             .size();
   }
+
+  public AuctionProductBidResponseDto(AuctionProductResponseDto product, Long consumerId,
+      Long lastBidPrice, Long totalBid) {
+    super(
+        product.getAuctionProductId(),
+        product.getProductName(),
+        product.getDescription(),
+        product.getStartingPrice(),
+        product.getCapacity(),
+        product.getAlcoholDegree(),
+        product.getProductImageUrl(),
+        product.getSellerId(),
+        product.getSellerName()
+    );
+    this.consumerId = consumerId;
+    this.lastBidPrice = lastBidPrice;
+    this.totalBid = totalBid;
+  }
 }
@@ -0,0 +1,22 @@
+package com.jeontongju.auction.dto.response;
+
+import com.jeontongju.auction.enums.AuctionProductConfirmResultEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionProductConfirmResponseDto {
+
+  private String auctionProductId;
+  private AuctionProductConfirmResultEnum result;
+
+  public static AuctionProductConfirmResponseDto of(String auctionProductId,
+      AuctionProductConfirmResultEnum result) {
+    return new AuctionProductConfirmResponseDto(auctionProductId, result);
+  }
+}
@@ -3,6 +3,7 @@ package com.jeontongju.auction.dto.response;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.jeontongju.auction.domain.BidInfo;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,6 +26,8 @@ public class ConsumerAuctionBidResponseDto {
   private Long myLastBidPrice;
   private Boolean isBid;
   private LocalDate bidDate;
+  @JsonIgnore
+  private LocalDateTime lastBidAt;
 
   public ConsumerAuctionBidResponseDto(BidInfo bidInfo) {
     this.auctionId = bidInfo.getAuction().getAuctionId();
@@ -37,6 +40,22 @@ public class ConsumerAuctionBidResponseDto {
     this.bidDate = bidInfo.getCreatedAt().toLocalDate();
   }
 
+  public ConsumerAuctionBidResponseDto(String auctionId, String auctionName, String productId,
+      String productName, String productImageUrl, Long startingPrice, Long lastBidPrice,
+      Long myLastBidPrice, Integer isBid, LocalDateTime lastBidAt) {
+    this.auctionId = auctionId;
+    this.auctionName = auctionName;
+    this.productId = productId;
+    this.productName = productName;
+    this.productImageUrl = productImageUrl;
+    this.startingPrice = startingPrice;
+    this.lastBidPrice = lastBidPrice;
+    this.myLastBidPrice = myLastBidPrice;
+    this.isBid = isBid != null && isBid == 1;
+    this.lastBidAt = lastBidAt;
+    this.bidDate = lastBidAt == null ? null : lastBidAt.toLocalDate();
+  }
+
   public void initLastBidPrice(Long lastBidPrice) {
     this.lastBidPrice = lastBidPrice;
   }
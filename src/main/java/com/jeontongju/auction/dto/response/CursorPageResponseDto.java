@@ -0,0 +1,35 @@
+package com.jeontongju.auction.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDto<T> {
+  private List<T> content;
+  private String nextCursor;
+  private Boolean hasNext;
+  private Long totalElements;
+
+  /**
+   * size + 1 개 조회한 결과로 다음 페이지 여부와 커서를 만든다
+   */
+  public static <T> CursorPageResponseDto<T> of(List<T> fetched, int size,
+      Function<T, String> cursorOf, Long totalElements) {
+    boolean hasNext = fetched.size() > size;
+    List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+
+    return CursorPageResponseDto.<T>builder()
+        .content(content)
+        .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+        .hasNext(hasNext)
+        .totalElements(totalElements)
+        .build();
+  }
+}
@@ -1,7 +1,9 @@
 package com.jeontongju.auction.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.jeontongju.auction.domain.AuctionProduct;
 import com.jeontongju.auction.domain.BidInfo;
+import com.jeontongju.auction.enums.AuctionProductStatusEnum;
 import com.jeontongju.auction.exception.AuctionProductNotFoundException;
 import java.time.LocalDateTime;
 import java.util.Comparator;
@@ -27,6 +29,12 @@ public class SellerAuctionEntriesResponseDto {
   private Long totalBid;
   private String auctionProductStatus;
 
+  // keyset 커서용
+  @JsonIgnore
+  private String auctionProductId;
+  @JsonIgnore
+  private LocalDateTime createdAt;
+
   public SellerAuctionEntriesResponseDto(AuctionProduct auctionProduct) {
     this.auctionId = auctionProduct.getAuction().getAuctionId();
     this.title = auctionProduct.getAuction().getTitle();
@@ -48,4 +56,21 @@ public class SellerAuctionEntriesResponseDto {
             .size();
     this.auctionProductStatus = auctionProduct.getStatus().name();
   }
+
+  // 목록에 필요한 컬럼만 조회한 경우 - 낙찰가와 입찰자 수는 낙찰 결과에서 읽는다
+  public SellerAuctionEntriesResponseDto(String auctionId, String title, LocalDateTime startDate,
+      String auctionProductName, Long startingBidPrice, Long lastBidPrice, Long totalBid,
+      AuctionProductStatusEnum auctionProductStatus, String auctionProductId,
+      LocalDateTime createdAt) {
+    this.auctionId = auctionId;
+    this.title = title;
+    this.startDate = startDate;
+    this.auctionProductName = auctionProductName;
+    this.startingBidPrice = startingBidPrice;
+    this.lastBidPrice = lastBidPrice;
+    this.totalBid = totalBid;
+    this.auctionProductStatus = auctionProductStatus.name();
+    this.auctionProductId = auctionProductId;
+    this.createdAt = createdAt;
+  }
 }
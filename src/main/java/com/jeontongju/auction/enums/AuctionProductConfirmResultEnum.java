@@ -0,0 +1,17 @@
+package com.jeontongju.auction.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum AuctionProductConfirmResultEnum {
+  CONFIRMED("처리 완료"),
+  UNCHANGED("이미 같은 상태"),
+  NOT_FOUND("존재하지 않는 상품"),
+  OVER_PARTICIPATION("참여 인원 초과"),
+  CONFLICT("승인 / 반려 동시 요청");
+  private final String value;
+
+  AuctionProductConfirmResultEnum(String value) {
+    this.value = value;
+  }
+}
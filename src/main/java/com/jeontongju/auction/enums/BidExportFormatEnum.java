@@ -0,0 +1,16 @@
+package com.jeontongju.auction.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BidExportFormatEnum {
+  CSV("text/csv", "csv"),
+  JSONL("application/x-ndjson", "jsonl");
+  private final String contentType;
+  private final String extension;
+
+  BidExportFormatEnum(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+}
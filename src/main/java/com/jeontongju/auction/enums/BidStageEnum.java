@@ -0,0 +1,16 @@
+package com.jeontongju.auction.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BidStageEnum {
+  CREDIT_CHECK("credit-check"),
+  PRICE_VALIDATION("price-validation"),
+  ZSET_WRITE("zset-write"),
+  KAFKA_PUBLISH("kafka-publish");
+  private final String value;
+
+  BidStageEnum(String value) {
+    this.value = value;
+  }
+}
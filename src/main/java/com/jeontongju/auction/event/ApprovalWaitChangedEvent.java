@@ -0,0 +1,19 @@
+package com.jeontongju.auction.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 승인 대기(WAIT) 상품 수 변화량 - 커밋 후 승인 대기 카운터에 반영한다
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ApprovalWaitChangedEvent {
+
+  private final long delta;
+
+  public static ApprovalWaitChangedEvent of(long delta) {
+    return new ApprovalWaitChangedEvent(delta);
+  }
+}
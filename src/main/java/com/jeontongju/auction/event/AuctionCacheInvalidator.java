@@ -0,0 +1,110 @@
+package com.jeontongju.auction.event;
+
+import com.jeontongju.auction.domain.Auction;
+import com.jeontongju.auction.domain.AuctionProduct;
+import com.jeontongju.auction.domain.common.CacheRegion;
+import com.jeontongju.auction.kafka.KafkaProcessor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 경매 2차 캐시 무효화
+ *
+ * <p>같은 인스턴스의 캐시는 Hibernate 가 직접 갱신하므로, 커밋이 끝난 변경만 Kafka 로 알려
+ * 다른 인스턴스의 엔티티 / 컬렉션 / 쿼리 캐시를 비운다. 메시지를 놓치더라도 ehcache.xml 의 TTL 이 지나면 만료된다.
+ *
+ * <p>replica 를 쓰면 무효화 직후 읽기 전용 트랜잭션이 아직 변경을 받지 못한 replica 에서 다시 읽어 캐시에
+ * 올릴 수 있다. 그래서 커밋한 인스턴스와 메시지를 받은 인스턴스 모두 허용 지연(replica-lag.max-seconds)과
+ * 지연 확인 주기가 지난 뒤 한 번 더 비운다. 그 뒤에는 지연이 허용치 안인 replica 이거나 primary 에서 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionCacheInvalidator {
+
+  public static final String AUCTION_CACHE_INVALIDATION = "auction-cache-invalidation";
+
+  private static final String AUCTION_PRODUCT_LIST_ROLE =
+      Auction.class.getName() + ".auctionProductList";
+
+  private final KafkaProcessor<String> kafkaProcessor;
+  private final EntityManagerFactory entityManagerFactory;
+
+  private final ScheduledExecutorService delayedEvictor =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "auction-cache-delayed-evictor");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  @Value("${spring.datasource.replica.jdbc-url:}")
+  private String replicaUrl;
+
+  @Value("${replica-lag.max-seconds:5}")
+  private long maxLagSeconds;
+
+  @Value("${replica-lag.check-interval-millis:1000}")
+  private long checkIntervalMillis;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void publish(AuctionChangedEvent event) {
+    // 이미 커밋된 변경이므로 전송 실패는 TTL 만료에 맡기고 요청은 성공시킨다
+    try {
+      kafkaProcessor.send(AUCTION_CACHE_INVALIDATION, event.getAuctionId());
+    } catch (RuntimeException e) {
+      log.warn("경매 캐시 무효화 전송 실패, auctionId : {}", event.getAuctionId(), e);
+    }
+    evictAfterReplicaLag(event.getAuctionId());
+  }
+
+  // 모든 인스턴스가 받아야 하므로 인스턴스마다 다른 consumer group 을 사용한다
+  @KafkaListener(
+      topics = AUCTION_CACHE_INVALIDATION,
+      groupId = "auction-cache-#{T(java.util.UUID).randomUUID()}",
+      properties = "auto.offset.reset=latest"
+  )
+  public void evict(String auctionId) {
+    evictNow(auctionId);
+    evictAfterReplicaLag(auctionId);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    delayedEvictor.shutdownNow();
+  }
+
+  private void evictAfterReplicaLag(String auctionId) {
+    if (replicaUrl.isEmpty()) {
+      return;
+    }
+    delayedEvictor.schedule(() -> {
+      try {
+        evictNow(auctionId);
+      } catch (RuntimeException e) {
+        log.warn("경매 캐시 지연 무효화 실패, auctionId : {}", auctionId, e);
+      }
+    }, TimeUnit.SECONDS.toMillis(maxLagSeconds) + checkIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void evictNow(String auctionId) {
+    Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+    cache.evictEntityData(Auction.class, auctionId);
+    cache.evictCollectionData(AUCTION_PRODUCT_LIST_ROLE, auctionId);
+    cache.evictEntityData(AuctionProduct.class);
+    cache.evictQueryRegion(CacheRegion.AUCTION_CATALOG);
+
+    log.debug("경매 캐시 무효화, auctionId : {}", auctionId);
+  }
+}
@@ -0,0 +1,19 @@
+package com.jeontongju.auction.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경매 / 경매 상품 변경 이벤트 - 커밋 후 다른 인스턴스의 2차 캐시를 비우는 데 사용한다
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuctionChangedEvent {
+
+  private final String auctionId;
+
+  public static AuctionChangedEvent of(String auctionId) {
+    return new AuctionChangedEvent(auctionId);
+  }
+}
@@ -0,0 +1,12 @@
+package com.jeontongju.auction.exception;
+
+import lombok.Getter;
+
+@Getter
+public class BulkheadFullException extends RuntimeException {
+  private static final String message = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+  public BulkheadFullException(String bulkhead) {
+    super(message + " (" + bulkhead + ")");
+  }
+}
@@ -0,0 +1,12 @@
+package com.jeontongju.auction.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidBidExportRangeException extends RuntimeException {
+  private static final String message = "내보낼 경매 또는 기간을 지정해야 합니다.";
+
+  public InvalidBidExportRangeException() {
+    super(message);
+  }
+}
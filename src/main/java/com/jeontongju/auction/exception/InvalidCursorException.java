@@ -0,0 +1,12 @@
+package com.jeontongju.auction.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidCursorException extends RuntimeException {
+  private static final String message = "잘못 된 페이지 커서입니다.";
+
+  public InvalidCursorException() {
+    super(message);
+  }
+}
@@ -0,0 +1,12 @@
+package com.jeontongju.auction.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidPageSizeException extends RuntimeException {
+  private static final String message = "페이지 크기는 1 이상 100 이하여야 합니다.";
+
+  public InvalidPageSizeException() {
+    super(message);
+  }
+}
@@ -1,10 +1,14 @@
 package com.jeontongju.auction.exception.advice;
 
+import com.jeontongju.auction.exception.BulkheadFullException;
 import com.jeontongju.auction.exception.DuplicateSellerRegisterProductException;
 import com.jeontongju.auction.exception.EmptyAuctionProductException;
 import com.jeontongju.auction.exception.InvalidAuctionStatusException;
+import com.jeontongju.auction.exception.InvalidBidExportRangeException;
 import com.jeontongju.auction.exception.InvalidBidPriceException;
+import com.jeontongju.auction.exception.InvalidCursorException;
 import com.jeontongju.auction.exception.InvalidConsumerCreditException;
+import com.jeontongju.auction.exception.InvalidPageSizeException;
 import com.jeontongju.auction.exception.OverParticipationException;
 import com.jeontongju.auction.exception.SameBidPriceException;
 import com.jeontongju.auction.exception.SameWeekOfAuctionException;
@@ -240,4 +244,68 @@ public class ControllerAdvice extends ResponseEntityExceptionHandler {
                 .build()
         );
   }
+
+  @ExceptionHandler(BulkheadFullException.class)
+  public ResponseEntity<ResponseFormat<Void>> handleBulkheadFullException(
+      BulkheadFullException e
+  ) {
+    HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+    return ResponseEntity
+        .status(status)
+        .body(
+            ResponseFormat.<Void>builder()
+                .code(status.value())
+                .message(status.name())
+                .detail(e.getMessage())
+                .build()
+        );
+  }
+
+  @ExceptionHandler(InvalidBidExportRangeException.class)
+  public ResponseEntity<ResponseFormat<Void>> handleInvalidBidExportRangeException(
+      InvalidBidExportRangeException e
+  ) {
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+    return ResponseEntity
+        .status(status)
+        .body(
+            ResponseFormat.<Void>builder()
+                .code(status.value())
+                .message(status.name())
+                .detail(e.getMessage())
+                .build()
+        );
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ResponseFormat<Void>> handleInvalidCursorException(
+      InvalidCursorException e
+  ) {
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+    return ResponseEntity
+        .status(status)
+        .body(
+            ResponseFormat.<Void>builder()
+                .code(status.value())
+                .message(status.name())
+                .detail(e.getMessage())
+                .build()
+        );
+  }
+
+  @ExceptionHandler(InvalidPageSizeException.class)
+  public ResponseEntity<ResponseFormat<Void>> handleInvalidPageSizeException(
+      InvalidPageSizeException e
+  ) {
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+    return ResponseEntity
+        .status(status)
+        .body(
+            ResponseFormat.<Void>builder()
+                .code(status.value())
+                .message(status.name())
+                .detail(e.getMessage())
+                .build()
+        );
+  }
 }
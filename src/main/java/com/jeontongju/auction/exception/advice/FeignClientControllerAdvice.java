@@ -1,5 +1,6 @@
 package com.jeontongju.auction.exception.advice;
 
+import com.jeontongju.auction.exception.ConcurrencyLimitExceededException;
 import io.github.bitbox.bitbox.dto.ResponseFormat;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
@@ -27,4 +28,18 @@ public class FeignClientControllerAdvice {
 
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR.value()).body(body);
   }
+
+  @ExceptionHandler(ConcurrencyLimitExceededException.class) // 동시 요청 한도 초과
+  public ResponseEntity<ResponseFormat<Void>> handleConcurrencyLimitExceededException(
+      ConcurrencyLimitExceededException e) {
+    log.warn(e.getMessage());
+    ResponseFormat<Void> body =
+        ResponseFormat.<Void>builder()
+            .code(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .message(HttpStatus.SERVICE_UNAVAILABLE.name())
+            .detail(e.getMessage())
+            .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE.value()).body(body);
+  }
 }
@@ -0,0 +1,54 @@
+package com.jeontongju.auction.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 입찰 한 건의 처리 결과와 소요 시간
+ */
+@Name("com.jeontongju.auction.Bid")
+@Label("Bid")
+@Category({"Auction", "Bid"})
+@Description("입찰 접수부터 BID_INFO 발행까지")
+public class BidEvent extends Event {
+
+  @Label("Auction Id")
+  String auctionId;
+
+  @Label("Auction Product Id")
+  String auctionProductId;
+
+  @Label("Consumer Id")
+  long consumerId;
+
+  @Label("Bid Price")
+  long bidPrice;
+
+  @Label("Accepted")
+  boolean accepted;
+
+  @Label("Reject Reason")
+  String rejectReason;
+
+  public static BidEvent begin(String auctionId, Long consumerId, Long bidPrice) {
+    BidEvent event = new BidEvent();
+    event.auctionId = auctionId;
+    event.consumerId = consumerId == null ? 0 : consumerId;
+    event.bidPrice = bidPrice == null ? 0 : bidPrice;
+    event.begin();
+    return event;
+  }
+
+  public void accept(String auctionProductId) {
+    this.auctionProductId = auctionProductId;
+    this.accepted = true;
+  }
+
+  public void reject(Exception e) {
+    this.accepted = false;
+    this.rejectReason = e.getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,39 @@
+package com.jeontongju.auction.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * /sub/bid-info 로 보낼 입찰 현황(상위 입찰, 상품 목록, 호가) 생성
+ */
+@Name("com.jeontongju.auction.BidSnapshot")
+@Label("Bid Snapshot Built")
+@Category({"Auction", "Bid"})
+@Description("Redis 에서 입찰 현황을 읽어 전송용 스냅샷을 만드는 데 걸린 시간")
+public class BidSnapshotEvent extends Event {
+
+  @Label("Auction Id")
+  String auctionId;
+
+  @Label("Auction Product Id")
+  String auctionProductId;
+
+  @Label("Bid Count")
+  int bidCount;
+
+  public static BidSnapshotEvent begin(String auctionId) {
+    BidSnapshotEvent event = new BidSnapshotEvent();
+    event.auctionId = auctionId;
+    event.begin();
+    return event;
+  }
+
+  public void end(String auctionProductId, int bidCount) {
+    this.auctionProductId = auctionProductId;
+    this.bidCount = bidCount;
+    commit();
+  }
+}
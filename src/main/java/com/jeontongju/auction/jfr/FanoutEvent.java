@@ -0,0 +1,39 @@
+package com.jeontongju.auction.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Kafka 메시지를 받아 구독 중인 세션으로 내보내기
+ */
+@Name("com.jeontongju.auction.Fanout")
+@Label("Fanout Sent")
+@Category({"Auction", "WebSocket"})
+@Description("Kafka 리스너가 STOMP 목적지로 프레임을 넘기는 데 걸린 시간")
+public class FanoutEvent extends Event {
+
+  @Label("Auction Id")
+  String auctionId;
+
+  @Label("Destination")
+  String destination;
+
+  @Label("Error")
+  String error;
+
+  public static FanoutEvent begin(String auctionId, String destination) {
+    FanoutEvent event = new FanoutEvent();
+    event.auctionId = auctionId;
+    event.destination = destination;
+    event.begin();
+    return event;
+  }
+
+  // 실패한 전송도 소요 시간과 함께 남긴다
+  public void fail(Exception e) {
+    this.error = e.getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,32 @@
+package com.jeontongju.auction.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Feign 클라이언트 호출 한 건
+ */
+@Name("com.jeontongju.auction.FeignCall")
+@Label("Feign Call")
+@Category({"Auction", "Feign"})
+@Description("다른 서비스 호출 소요 시간과 응답 상태")
+public class FeignCallEvent extends Event {
+
+  @Label("Client")
+  String client;
+
+  @Label("Method")
+  String method;
+
+  @Label("Path")
+  String path;
+
+  @Label("Status")
+  int status;
+
+  @Label("Error")
+  String error;
+}
@@ -0,0 +1,49 @@
+package com.jeontongju.auction.jfr;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.net.URI;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 Feign 호출을 {@link FeignCallEvent} 로 기록
+ *
+ * <p>동시성 제한 바로 안쪽에서 감싸 제한에 걸려 보내지 않은 요청은 기록하지 않는다.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class FeignCallRecordingCapability implements Capability {
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> execute(client, request, options);
+  }
+
+  private Response execute(Client client, Request request, Options options) throws IOException {
+    FeignCallEvent event = new FeignCallEvent();
+    if (!event.isEnabled()) {
+      return client.execute(request, options);
+    }
+
+    event.begin();
+    try {
+      Response response = client.execute(request, options);
+      event.status = response.status();
+      return response;
+    } catch (IOException | RuntimeException e) {
+      event.error = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      event.client = request.requestTemplate().feignTarget().name();
+      event.method = request.httpMethod().name();
+      event.path = URI.create(request.url()).getPath();
+      event.commit();
+    }
+  }
+}
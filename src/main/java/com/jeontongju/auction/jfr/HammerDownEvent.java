@@ -0,0 +1,50 @@
+package com.jeontongju.auction.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 낙찰(successfulBid) 처리 단계 하나
+ *
+ * <p>{@link #next(String)} 로 현재 단계를 기록하고 다음 단계를 시작한다.
+ * 단계가 예외로 끝나면 {@link #fail(Exception)} 로 실패 원인을 남기고 그 단계를 기록한다.
+ */
+@Name("com.jeontongju.auction.HammerDown")
+@Label("Hammer Down Phase")
+@Category({"Auction", "Bid"})
+@Description("낙찰 처리 단계별 소요 시간")
+public class HammerDownEvent extends Event {
+
+  @Label("Auction Id")
+  String auctionId;
+
+  @Label("Auction Product Id")
+  String auctionProductId;
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Error")
+  String error;
+
+  public static HammerDownEvent begin(String auctionId, String auctionProductId, String phase) {
+    HammerDownEvent event = new HammerDownEvent();
+    event.auctionId = auctionId;
+    event.auctionProductId = auctionProductId;
+    event.phase = phase;
+    event.begin();
+    return event;
+  }
+
+  public HammerDownEvent next(String phase) {
+    commit();
+    return begin(auctionId, auctionProductId, phase);
+  }
+
+  public void fail(Exception e) {
+    this.error = e.getClass().getSimpleName();
+  }
+}
@@ -1,6 +1,9 @@
 package com.jeontongju.auction.kafka;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -12,4 +15,11 @@ public class KafkaProcessor<T> {
   public void send(String topic, T data) {
     kafkaTemplate.send(topic, data);
   }
+
+  public void send(String topic, T data, Map<String, String> headers) {
+    ProducerRecord<String, T> record = new ProducerRecord<>(topic, data);
+    headers.forEach((name, value) ->
+        record.headers().add(name, value.getBytes(StandardCharsets.UTF_8)));
+    kafkaTemplate.send(record);
+  }
 }
@@ -0,0 +1,48 @@
+package com.jeontongju.auction.kafka;
+
+import com.jeontongju.auction.config.datasource.QueryMetricsRecorder;
+import com.jeontongju.auction.config.datasource.QueryScope;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 리스너가 레코드 하나를 처리하는 동안 실행한 SQL 을 토픽 단위로 집계
+ *
+ * <p>기본 리스너 컨테이너 팩토리가 이 빈을 레코드 인터셉터로 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "query-metrics.enabled", matchIfMissing = true)
+public class QueryMetricsRecordInterceptor implements RecordInterceptor<Object, Object> {
+
+  private static final String TYPE = "kafka";
+
+  private final QueryMetricsRecorder queryMetricsRecorder;
+
+  @Override
+  public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record,
+      Consumer<Object, Object> consumer) {
+    queryMetricsRecorder.open(TYPE, record.topic());
+    return record;
+  }
+
+  // spring-kafka 2.8 에서는 추상 메서드라 구현만 두고, 컨테이너는 위의 consumer 를 받는 메서드를 호출한다
+  @Override
+  @Deprecated
+  public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record) {
+    return record;
+  }
+
+  @Override
+  public void afterRecord(ConsumerRecord<Object, Object> record,
+      Consumer<Object, Object> consumer) {
+    QueryScope scope = QueryScope.current();
+    if (scope != null && TYPE.equals(scope.getType())) {
+      queryMetricsRecorder.close(scope);
+    }
+  }
+}
@@ -2,13 +2,24 @@ package com.jeontongju.auction.repository;
 
 import com.jeontongju.auction.domain.AuctionProduct;
 import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AuctionProductRepository extends JpaRepository<AuctionProduct, String> {
   Page<AuctionProduct> findAuctionProductBySellerId(Long sellerId, Pageable pageable);
+  Long countBySellerId(Long sellerId);
   Optional<AuctionProduct> findByName(String productName);
+  Optional<AuctionProduct> findByAuctionAuctionIdAndSellerId(String auctionId, Long sellerId);
+
+  // 승인 / 반려는 상품 행을 잠근 뒤 상태를 읽어야 자리를 중복으로 잡거나 돌려주지 않는다
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select ap from AuctionProduct ap where ap.auctionProductId = :auctionProductId")
+  Optional<AuctionProduct> findByIdForUpdate(@Param("auctionProductId") String auctionProductId);
 }
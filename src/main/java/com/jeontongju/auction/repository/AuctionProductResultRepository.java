@@ -0,0 +1,12 @@
+package com.jeontongju.auction.repository;
+
+import com.jeontongju.auction.domain.AuctionProductResult;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuctionProductResultRepository extends
+    JpaRepository<AuctionProductResult, String> {
+  List<AuctionProductResult> findByAuctionId(String auctionId);
+}
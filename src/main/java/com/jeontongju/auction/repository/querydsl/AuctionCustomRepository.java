@@ -1,9 +1,25 @@
 package com.jeontongju.auction.repository.querydsl;
 
 import com.jeontongju.auction.domain.Auction;
+import com.jeontongju.auction.dto.query.AuctionProductBidStatDto;
+import com.jeontongju.auction.dto.query.AuctionProductStatusDto;
+import com.jeontongju.auction.dto.query.BidExportDto;
+import com.jeontongju.auction.dto.response.AdminAuctionResponseDto;
+import com.jeontongju.auction.dto.response.AuctionProductResponseDto;
+import com.jeontongju.auction.dto.response.AuctionResponseDto;
+import com.jeontongju.auction.dto.response.ConsumerAuctionBidResponseDto;
+import com.jeontongju.auction.dto.response.SellerAuctionEntriesResponseDto;
 import com.jeontongju.auction.dto.response.SellerAuctionResponseDto;
+import com.jeontongju.auction.enums.AuctionProductStatusEnum;
+import com.jeontongju.auction.util.KeysetCursor;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface AuctionCustomRepository {
   Optional<SellerAuctionResponseDto> findRegistrableAuction();
@@ -11,7 +27,52 @@ public interface AuctionCustomRepository {
   Long findDateOfWeek(LocalDate localDate);
   Long countByAuctionProductIsWait();
 
+  long reserveSlot(String auctionId, int limit);
+
+  long releaseSlot(String auctionId);
+
+  Integer findReservedSlotsForUpdate(String auctionId);
+
+  long updateReservedSlots(String auctionId, int reservedSlots);
+
+  List<AuctionProductStatusDto> findAuctionProductStatusForUpdate(
+      Collection<String> auctionProductIds);
+
+  long updateAuctionProductStatus(Collection<String> auctionProductIds,
+      AuctionProductStatusEnum status);
+
   Optional<Auction> findThisAuctionRecent();
 
   Optional<SellerAuctionResponseDto> findRegistrableAuctionRecent();
+
+  List<ConsumerAuctionBidResponseDto> findConsumerBidInfo(Long consumerId, Pageable pageable);
+
+  List<ConsumerAuctionBidResponseDto> findConsumerBidInfoAfter(Long consumerId,
+      KeysetCursor cursor, int limit);
+
+  Long countConsumerBidInfo(Long consumerId);
+
+  Optional<AuctionResponseDto> findAuctionResponse(String auctionId);
+
+  Optional<AuctionResponseDto> findThisAuctionResponseRecent();
+
+  List<AuctionProductResponseDto> findAuctionProductResponse(String auctionId);
+
+  List<AuctionProductBidStatDto> findAuctionProductBidStat(List<String> auctionProductIds);
+
+  List<String> findAuctionProductIdWithoutResult(int limit);
+
+  Page<AdminAuctionResponseDto> findAdminAuction(Pageable pageable);
+
+  List<AdminAuctionResponseDto> findAdminAuctionAfter(KeysetCursor cursor, int limit);
+
+  Long countAdminAuction();
+
+  Stream<BidExportDto> streamBidExport(String auctionId, LocalDateTime from, LocalDateTime to,
+      int fetchSize);
+
+  Page<SellerAuctionEntriesResponseDto> findAuctionEntries(Long sellerId, Pageable pageable);
+
+  List<SellerAuctionEntriesResponseDto> findAuctionEntriesAfter(Long sellerId,
+      KeysetCursor cursor, int limit);
 }
@@ -2,21 +2,55 @@ package com.jeontongju.auction.repository.querydsl;
 
 import static com.jeontongju.auction.domain.QAuction.auction;
 import static com.jeontongju.auction.domain.QAuctionProduct.auctionProduct;
+import static com.jeontongju.auction.domain.QAuctionProductResult.auctionProductResult;
+import static com.jeontongju.auction.domain.QBidInfo.bidInfo;
 import static org.hibernate.internal.util.NullnessHelper.coalesce;
 
 import com.jeontongju.auction.domain.Auction;
+import com.jeontongju.auction.domain.common.CacheRegion;
+import com.jeontongju.auction.dto.query.AuctionProductBidStatDto;
+import com.jeontongju.auction.dto.query.AuctionProductStatusDto;
+import com.jeontongju.auction.dto.query.BidExportDto;
+import com.jeontongju.auction.dto.response.AdminAuctionResponseDto;
+import com.jeontongju.auction.dto.response.AuctionProductResponseDto;
+import com.jeontongju.auction.dto.response.AuctionResponseDto;
+import com.jeontongju.auction.dto.response.ConsumerAuctionBidResponseDto;
+import com.jeontongju.auction.dto.response.SellerAuctionEntriesResponseDto;
 import com.jeontongju.auction.dto.response.SellerAuctionResponseDto;
 import com.jeontongju.auction.enums.AuctionProductStatusEnum;
 import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.util.IsoYearWeek;
+import com.jeontongju.auction.util.KeysetCursor;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.DayOfWeek;
+import java.time.LocalDateTime;
 import java.time.LocalDate;
-import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Repository
 @RequiredArgsConstructor
@@ -24,6 +58,19 @@ public class AuctionCustomRepositoryImpl implements AuctionCustomRepository {
 
   private final JPAQueryFactory jpaQueryFactory;
 
+  // 관리자 경매 목록에서 허용하는 정렬 기준
+  private static final Map<String, ComparableExpressionBase<?>> ADMIN_AUCTION_SORT = Map.of(
+      "createdAt", auction.createdAt,
+      "startDate", auction.startDate,
+      "title", auction.title
+  );
+
+  private static final Map<String, ComparableExpressionBase<?>> AUCTION_ENTRIES_SORT = Map.of(
+      "createdAt", auctionProduct.createdAt,
+      "startingPrice", auctionProduct.startingPrice,
+      "name", auctionProduct.name
+  );
+
   @Override
   public Optional<SellerAuctionResponseDto> findRegistrableAuction() {
     SellerAuctionResponseDto result = jpaQueryFactory
@@ -77,12 +124,90 @@ public class AuctionCustomRepositoryImpl implements AuctionCustomRepository {
     return jpaQueryFactory.select(auction.count())
         .from(auction)
         .where(
-            auction.startDate.week().eq(localDate.get(WeekFields.ISO.weekOfWeekBasedYear())),
+            auction.yearWeek.eq(IsoYearWeek.of(localDate)),
             auction.isDeleted.isFalse()
         )
         .fetchOne();
   }
 
+  // 남은 자리가 있을 때만 1 증가, 갱신된 행이 없으면 0
+  @Override
+  public long reserveSlot(String auctionId, int limit) {
+    return jpaQueryFactory.update(auction)
+        .set(auction.reservedSlots, auction.reservedSlots.add(1))
+        .where(
+            auction.auctionId.eq(auctionId),
+            auction.reservedSlots.lt(limit)
+        )
+        .execute();
+  }
+
+  @Override
+  public long releaseSlot(String auctionId) {
+    return jpaQueryFactory.update(auction)
+        .set(auction.reservedSlots, auction.reservedSlots.subtract(1))
+        .where(
+            auction.auctionId.eq(auctionId),
+            auction.reservedSlots.gt(0)
+        )
+        .execute();
+  }
+
+  // 일괄 승인 중에는 단건 승인의 조건부 UPDATE 가 끼어들지 못하도록 행을 잠근다
+  @Override
+  public Integer findReservedSlotsForUpdate(String auctionId) {
+    return jpaQueryFactory.select(auction.reservedSlots)
+        .from(auction)
+        .where(auction.auctionId.eq(auctionId))
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .fetchOne();
+  }
+
+  @Override
+  public long updateReservedSlots(String auctionId, int reservedSlots) {
+    return jpaQueryFactory.update(auction)
+        .set(auction.reservedSlots, reservedSlots)
+        .where(auction.auctionId.eq(auctionId))
+        .execute();
+  }
+
+  // 상품 행을 id 순서로 잠가 동시 승인 / 반려가 같은 상태를 보고 자리를 중복 계산하지 않게 한다
+  @Override
+  public List<AuctionProductStatusDto> findAuctionProductStatusForUpdate(
+      Collection<String> auctionProductIds) {
+    return jpaQueryFactory
+        .select(
+            Projections.constructor(
+                AuctionProductStatusDto.class,
+                auctionProduct.auctionProductId,
+                auctionProduct.auction.auctionId,
+                auctionProduct.status
+            )
+        )
+        .from(auctionProduct)
+        .where(auctionProduct.auctionProductId.in(auctionProductIds))
+        .orderBy(auctionProduct.auctionProductId.asc())
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .fetch();
+  }
+
+  @Override
+  public long updateAuctionProductStatus(Collection<String> auctionProductIds,
+      AuctionProductStatusEnum status) {
+    if (auctionProductIds.isEmpty()) {
+      return 0L;
+    }
+
+    return jpaQueryFactory.update(auctionProduct)
+        .set(auctionProduct.status, status)
+        .set(auctionProduct.updatedAt, LocalDateTime.now())
+        .where(
+            auctionProduct.auctionProductId.in(auctionProductIds),
+            auctionProduct.status.ne(status)
+        )
+        .execute();
+  }
+
   @Override
   public Long countByAuctionProductIsWait() {
     return jpaQueryFactory.select(auctionProduct.count())
@@ -94,13 +219,13 @@ public class AuctionCustomRepositoryImpl implements AuctionCustomRepository {
   // 가장 최근 열리는 경매 (임시)
   @Override
   public Optional<Auction> findThisAuctionRecent() {
-    Auction result = jpaQueryFactory
+    Auction result = catalogCache(jpaQueryFactory
         .selectFrom(auction)
         .where(
             auction.isDeleted.isFalse()
         )
         .orderBy(auction.createdAt.desc())
-        .limit(1)
+        .limit(1))
         .fetchOne();
 
     return Optional.ofNullable(result);
@@ -109,7 +234,7 @@ public class AuctionCustomRepositoryImpl implements AuctionCustomRepository {
   // 가장 최근 열리는 경매 (임시)
   @Override
   public Optional<SellerAuctionResponseDto> findRegistrableAuctionRecent() {
-    SellerAuctionResponseDto result = jpaQueryFactory
+    SellerAuctionResponseDto result = catalogCache(jpaQueryFactory
         .select(
             Projections.fields(
                 SellerAuctionResponseDto.class,
@@ -129,12 +254,424 @@ public class AuctionCustomRepositoryImpl implements AuctionCustomRepository {
         )
         .orderBy(auction.createdAt.desc())
         .limit(1)
-        .groupBy(auction.auctionId)
+        .groupBy(auction.auctionId))
+        .fetchOne();
+
+    return Optional.ofNullable(result);
+  }
+
+  @Override
+  public List<ConsumerAuctionBidResponseDto> findConsumerBidInfo(Long consumerId,
+      Pageable pageable) {
+    return selectConsumerBidInfo(consumerId)
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+  }
+
+  // 마지막 입찰 시각, 상품 id 역순 keyset
+  @Override
+  public List<ConsumerAuctionBidResponseDto> findConsumerBidInfoAfter(Long consumerId,
+      KeysetCursor cursor, int limit) {
+    JPAQuery<ConsumerAuctionBidResponseDto> query = selectConsumerBidInfo(consumerId);
+
+    if (cursor != null) {
+      DateTimeExpression<LocalDateTime> lastBidAt = bidInfo.createdAt.max();
+      query.having(
+          lastBidAt.lt(cursor.getSortedAt())
+              .or(lastBidAt.eq(cursor.getSortedAt())
+                  .and(auctionProduct.auctionProductId.lt(cursor.getId())))
+      );
+    }
+
+    return query.limit(limit).fetch();
+  }
+
+  @Override
+  public Long countConsumerBidInfo(Long consumerId) {
+    return jpaQueryFactory.select(bidInfo.auctionProduct.auctionProductId.countDistinct())
+        .from(bidInfo)
+        .where(bidInfo.consumerId.eq(consumerId))
+        .fetchOne();
+  }
+
+  /**
+   * 소비자가 입찰한 상품별 최고 입찰가와 낙찰가
+   *
+   * <p>소비자 입찰은 (consumer_id, auction_product_id, bid_price, created_at) 인덱스로 찾고,
+   * 낙찰가와 낙찰 여부는 auction_product_result 에서 읽는다.
+   */
+  private JPAQuery<ConsumerAuctionBidResponseDto> selectConsumerBidInfo(Long consumerId) {
+    return jpaQueryFactory
+        .select(
+            Projections.constructor(
+                ConsumerAuctionBidResponseDto.class,
+                auction.auctionId,
+                auction.title,
+                auctionProduct.auctionProductId,
+                auctionProduct.name,
+                auctionProduct.thumbnailImageUrl,
+                auctionProduct.startingPrice,
+                auctionProductResult.lastBidPrice.max(),
+                bidInfo.bidPrice.max(),
+                new CaseBuilder()
+                    .when(auctionProductResult.winnerConsumerId.eq(consumerId)).then(1)
+                    .otherwise(0)
+                    .max(),
+                bidInfo.createdAt.max()
+            )
+        )
+        .from(bidInfo)
+        .join(bidInfo.auctionProduct, auctionProduct)
+        .join(auctionProduct.auction, auction)
+        .leftJoin(auctionProductResult)
+        .on(auctionProductResult.auctionProductId.eq(auctionProduct.auctionProductId))
+        .where(bidInfo.consumerId.eq(consumerId))
+        .groupBy(
+            auctionProduct.auctionProductId,
+            auctionProduct.name,
+            auctionProduct.thumbnailImageUrl,
+            auctionProduct.startingPrice,
+            auction.auctionId,
+            auction.title
+        )
+        .orderBy(bidInfo.createdAt.max().desc(), auctionProduct.auctionProductId.desc());
+  }
+
+  @Override
+  public Optional<AuctionResponseDto> findAuctionResponse(String auctionId) {
+    AuctionResponseDto result = selectAuctionResponse()
+        .where(auction.auctionId.eq(auctionId))
         .fetchOne();
 
     return Optional.ofNullable(result);
   }
 
+  // 가장 최근 열리는 경매 (임시)
+  @Override
+  public Optional<AuctionResponseDto> findThisAuctionResponseRecent() {
+    AuctionResponseDto result = catalogCache(selectAuctionResponse()
+        .where(auction.isDeleted.isFalse())
+        .orderBy(auction.createdAt.desc())
+        .limit(1))
+        .fetchOne();
+
+    return Optional.ofNullable(result);
+  }
+
+  @Override
+  public List<AuctionProductResponseDto> findAuctionProductResponse(String auctionId) {
+    return catalogCache(jpaQueryFactory
+        .select(
+            Projections.fields(
+                AuctionProductResponseDto.class,
+                auctionProduct.auctionProductId,
+                auctionProduct.name.as("productName"),
+                auctionProduct.description,
+                auctionProduct.startingPrice,
+                auctionProduct.capacity,
+                auctionProduct.alcoholDegree,
+                auctionProduct.thumbnailImageUrl.as("productImageUrl"),
+                auctionProduct.sellerId,
+                auctionProduct.storeName.as("sellerName"),
+                auctionProduct.storeEmail.as("sellerEmail"),
+                auctionProduct.businessmanName,
+                auctionProduct.storeImageUrl,
+                auctionProduct.status,
+                auctionProduct.createdAt
+            )
+        )
+        .from(auctionProduct)
+        .where(auctionProduct.auction.auctionId.eq(auctionId))
+        .orderBy(auctionProduct.createdAt.asc(), auctionProduct.auctionProductId.asc()))
+        .fetch();
+  }
+
+  // 상품 수와 관계없이 한 번의 집계 쿼리로 상품 / 소비자별 최고 입찰가를 가져온다
+  @Override
+  public List<AuctionProductBidStatDto> findAuctionProductBidStat(List<String> auctionProductIds) {
+    return jpaQueryFactory
+        .select(
+            Projections.constructor(
+                AuctionProductBidStatDto.class,
+                bidInfo.auction.auctionId,
+                bidInfo.auctionProduct.auctionProductId,
+                bidInfo.consumerId,
+                bidInfo.bidPrice.max()
+            )
+        )
+        .from(bidInfo)
+        .where(bidInfo.auctionProduct.auctionProductId.in(auctionProductIds))
+        .groupBy(
+            bidInfo.auction.auctionId,
+            bidInfo.auctionProduct.auctionProductId,
+            bidInfo.consumerId
+        )
+        .fetch();
+  }
+
+  // 입찰 내역은 있지만 낙찰 결과가 없는 상품
+  @Override
+  public List<String> findAuctionProductIdWithoutResult(int limit) {
+    return jpaQueryFactory
+        .select(bidInfo.auctionProduct.auctionProductId)
+        .distinct()
+        .from(bidInfo)
+        .where(
+            JPAExpressions.selectOne()
+                .from(auctionProductResult)
+                .where(auctionProductResult.auctionProductId.eq(
+                    bidInfo.auctionProduct.auctionProductId))
+                .notExists()
+        )
+        .limit(limit)
+        .fetch();
+  }
+
+  // 경매 페이지와 상태별 상품 수를 한 번의 그룹 쿼리로, 전체 건수를 count 쿼리로 조회
+  @Override
+  public Page<AdminAuctionResponseDto> findAdminAuction(Pageable pageable) {
+    List<AdminAuctionResponseDto> content = selectAdminAuction()
+        .orderBy(adminAuctionOrder(pageable.getSort()))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    return PageableExecutionUtils.getPage(content, pageable, this::countAdminAuction);
+  }
+
+  // 생성 시각, 경매 id 역순 keyset - (is_deleted, created_at, auction_id) 인덱스를 따라 읽는다
+  @Override
+  public List<AdminAuctionResponseDto> findAdminAuctionAfter(KeysetCursor cursor, int limit) {
+    JPAQuery<AdminAuctionResponseDto> query = selectAdminAuction();
+
+    if (cursor != null) {
+      query.where(
+          auction.createdAt.lt(cursor.getSortedAt())
+              .or(auction.createdAt.eq(cursor.getSortedAt())
+                  .and(auction.auctionId.lt(cursor.getId())))
+      );
+    }
+
+    return query.orderBy(auction.createdAt.desc(), auction.auctionId.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public Long countAdminAuction() {
+    return jpaQueryFactory
+        .select(auction.count())
+        .from(auction)
+        .where(auction.isDeleted.isFalse())
+        .fetchOne();
+  }
+
+  /**
+   * 입찰 내역 내보내기 - 상품 / 경매 정보를 조인해 forward-only 커서로 읽는다
+   *
+   * <p>경매별은 (auction_id, created_at), 기간별은 created_at 인덱스를 따라 입찰 순서대로 읽는다.
+   * 호출한 쪽에서 트랜잭션 안에서 소비하고 닫아야 한다.
+   */
+  @Override
+  public Stream<BidExportDto> streamBidExport(String auctionId, LocalDateTime from,
+      LocalDateTime to, int fetchSize) {
+    return jpaQueryFactory
+        .select(
+            Projections.constructor(
+                BidExportDto.class,
+                bidInfo.bidInfoId,
+                auction.auctionId,
+                auction.title,
+                auctionProduct.auctionProductId,
+                auctionProduct.name,
+                auctionProduct.sellerId,
+                auctionProduct.storeName,
+                bidInfo.consumerId,
+                bidInfo.bidPrice,
+                bidInfo.isBid,
+                bidInfo.createdAt
+            )
+        )
+        .from(bidInfo)
+        .join(bidInfo.auction, auction)
+        .join(bidInfo.auctionProduct, auctionProduct)
+        .where(
+            auctionId == null ? null : bidInfo.auction.auctionId.eq(auctionId),
+            from == null ? null : bidInfo.createdAt.goe(from),
+            to == null ? null : bidInfo.createdAt.lt(to)
+        )
+        .orderBy(bidInfo.createdAt.asc(), bidInfo.bidInfoId.asc())
+        .setHint(QueryHints.FETCH_SIZE, fetchSize)
+        .setHint(QueryHints.READ_ONLY, true)
+        .stream();
+  }
+
+  @Override
+  public Page<SellerAuctionEntriesResponseDto> findAuctionEntries(Long sellerId,
+      Pageable pageable) {
+    List<SellerAuctionEntriesResponseDto> content = selectAuctionEntries(sellerId)
+        .orderBy(auctionEntriesOrder(pageable.getSort()))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    return PageableExecutionUtils.getPage(content, pageable, () -> jpaQueryFactory
+        .select(auctionProduct.count())
+        .from(auctionProduct)
+        .where(auctionProduct.sellerId.eq(sellerId))
+        .fetchOne());
+  }
+
+  // 생성 시각, 상품 id 역순 keyset - (seller_id, created_at, auction_product_id) 인덱스를 따라 읽는다
+  @Override
+  public List<SellerAuctionEntriesResponseDto> findAuctionEntriesAfter(Long sellerId,
+      KeysetCursor cursor, int limit) {
+    JPAQuery<SellerAuctionEntriesResponseDto> query = selectAuctionEntries(sellerId);
+
+    if (cursor != null) {
+      query.where(
+          auctionProduct.createdAt.lt(cursor.getSortedAt())
+              .or(auctionProduct.createdAt.eq(cursor.getSortedAt())
+                  .and(auctionProduct.auctionProductId.lt(cursor.getId())))
+      );
+    }
+
+    return query.orderBy(auctionProduct.createdAt.desc(), auctionProduct.auctionProductId.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * 셀러 출품 내역 - 목록에 보이는 컬럼만 조회
+   *
+   * <p>상품 설명, 매장 연락처 같은 컬럼과 입찰 내역은 읽지 않고, 경매 제목은 조인으로,
+   * 낙찰가와 입찰자 수는 auction_product_result 에서 가져온다.
+   */
+  private JPAQuery<SellerAuctionEntriesResponseDto> selectAuctionEntries(Long sellerId) {
+    return jpaQueryFactory
+        .select(
+            Projections.constructor(
+                SellerAuctionEntriesResponseDto.class,
+                auction.auctionId,
+                auction.title,
+                auction.startDate,
+                auctionProduct.name,
+                auctionProduct.startingPrice,
+                auctionProductResult.lastBidPrice,
+                auctionProductResult.totalBidder,
+                auctionProduct.status,
+                auctionProduct.auctionProductId,
+                auctionProduct.createdAt
+            )
+        )
+        .from(auctionProduct)
+        .join(auctionProduct.auction, auction)
+        .leftJoin(auctionProductResult)
+        .on(auctionProductResult.auctionProductId.eq(auctionProduct.auctionProductId))
+        .where(auctionProduct.sellerId.eq(sellerId));
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private OrderSpecifier<?>[] auctionEntriesOrder(Sort sort) {
+    List<OrderSpecifier<?>> orders = new ArrayList<>();
+    sort.forEach(order -> {
+      ComparableExpressionBase<?> path = AUCTION_ENTRIES_SORT.get(order.getProperty());
+      if (path != null) {
+        orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, path));
+      }
+    });
+
+    if (orders.isEmpty()) {
+      orders.add(auctionProduct.createdAt.desc());
+    }
+    orders.add(auctionProduct.auctionProductId.desc());
+    return orders.toArray(OrderSpecifier[]::new);
+  }
+
+  private JPAQuery<AdminAuctionResponseDto> selectAdminAuction() {
+    return jpaQueryFactory
+        .select(
+            Projections.constructor(
+                AdminAuctionResponseDto.class,
+                auction.auctionId,
+                auction.title,
+                auction.description,
+                auction.startDate,
+                auction.endDate,
+                auction.status,
+                countByStatus(AuctionProductStatusEnum.WAIT),
+                countByStatus(AuctionProductStatusEnum.ALLOW),
+                countByStatus(AuctionProductStatusEnum.DENY),
+                auction.createdAt
+            )
+        )
+        .from(auction)
+        .leftJoin(auction.auctionProductList, auctionProduct)
+        .where(auction.isDeleted.isFalse())
+        .groupBy(
+            auction.auctionId,
+            auction.title,
+            auction.description,
+            auction.startDate,
+            auction.endDate,
+            auction.status,
+            auction.createdAt
+        );
+  }
+
+  private NumberExpression<Long> countByStatus(AuctionProductStatusEnum status) {
+    return Expressions.cases()
+        .when(auctionProduct.status.eq(status)).then(1L)
+        .otherwise(0L)
+        .sum();
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private OrderSpecifier<?>[] adminAuctionOrder(Sort sort) {
+    List<OrderSpecifier<?>> orders = new ArrayList<>();
+    sort.forEach(order -> {
+      ComparableExpressionBase<?> path = ADMIN_AUCTION_SORT.get(order.getProperty());
+      if (path != null) {
+        orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, path));
+      }
+    });
+
+    if (orders.isEmpty()) {
+      orders.add(auction.createdAt.desc());
+    }
+    orders.add(auction.auctionId.asc());
+    return orders.toArray(OrderSpecifier[]::new);
+  }
+
+  private JPAQuery<AuctionResponseDto> selectAuctionResponse() {
+    return jpaQueryFactory
+        .select(
+            Projections.fields(
+                AuctionResponseDto.class,
+                auction.auctionId,
+                auction.title,
+                auction.description,
+                auction.startDate,
+                auction.endDate,
+                auction.status
+            )
+        )
+        .from(auction);
+  }
+
+  // 경매 / 상품 테이블이 바뀌면 Hibernate 가 무효화하고, 다른 인스턴스는 AuctionCacheInvalidator 가 비운다.
+  // primary 로 가는(읽기 전용이 아닌) 트랜잭션은 replica 에서 올라온 결과를 쓰지 않고 primary 결과로 덮어쓴다
+  private <T> JPAQuery<T> catalogCache(JPAQuery<T> query) {
+    JPAQuery<T> cached = query
+        .setHint(QueryHints.CACHEABLE, true)
+        .setHint(QueryHints.CACHE_REGION, CacheRegion.AUCTION_CATALOG);
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      cached.setHint(QueryHints.CACHE_MODE, CacheMode.REFRESH);
+    }
+    return cached;
+  }
+
   private LocalDate getTargetAuctionDate(LocalDate today, DayOfWeek dayOfWeek) {
     if (today.getDayOfWeek().compareTo(dayOfWeek) <= 0) {
       return today.with(dayOfWeek);
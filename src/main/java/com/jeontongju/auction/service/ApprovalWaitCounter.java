@@ -0,0 +1,123 @@
+package com.jeontongju.auction.service;
+
+import com.jeontongju.auction.event.ApprovalWaitChangedEvent;
+import com.jeontongju.auction.repository.AuctionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 승인 대기(WAIT) 상품 수 카운터
+ *
+ * <p>등록 / 상태 변경이 커밋될 때마다 Redis 값을 증감하고, 주기적으로 DB COUNT 로 덮어써 어긋난 값을 바로잡는다.
+ * 마지막 보정 때 확인한 차이는 drift 지표로 남긴다. Redis 를 쓸 수 없으면 DB 에서 바로 센다.
+ */
+@Slf4j
+@Component
+public class ApprovalWaitCounter {
+
+  static final String KEY = "auction-product:approval-wait";
+
+  // 키가 없을 때 증감하면 0 부터 시작한 틀린 값이 생기므로, 있을 때만 반영하고 없으면 다음 조회에서 채운다
+  private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+      "if redis.call('exists', KEYS[1]) == 1 then return redis.call('incrby', KEYS[1], ARGV[1]) end "
+          + "return nil", Long.class);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final AuctionRepository auctionRepository;
+  private final Counter fallback;
+  private final ScheduledExecutorService scheduler;
+
+  @Value("${approval-wait.reconcile-interval-millis:60000}")
+  private long reconcileIntervalMillis;
+
+  private volatile long drift;
+
+  public ApprovalWaitCounter(@Qualifier("redisStringTemplate") RedisTemplate<String, Object> redisTemplate,
+      AuctionRepository auctionRepository, MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.auctionRepository = auctionRepository;
+    this.fallback = Counter.builder("auction.product.approval-wait.fallback")
+        .register(meterRegistry);
+    Gauge.builder("auction.product.approval-wait.drift", this, counter -> counter.drift)
+        .register(meterRegistry);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "approval-wait-reconciler");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PostConstruct
+  void start() {
+    scheduler.scheduleWithFixedDelay(this::reconcile, reconcileIntervalMillis,
+        reconcileIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    scheduler.shutdown();
+  }
+
+  public long get() {
+    try {
+      Object value = redisTemplate.opsForValue().get(KEY);
+      if (value != null) {
+        return Long.parseLong(value.toString());
+      }
+    } catch (RuntimeException e) {
+      log.warn("승인 대기 카운터 조회 실패, DB 에서 집계", e);
+      fallback.increment();
+      return auctionRepository.countByAuctionProductIsWait();
+    }
+
+    return reconcile();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChanged(ApprovalWaitChangedEvent event) {
+    if (event.getDelta() == 0) {
+      return;
+    }
+
+    // 반영하지 못한 변화량은 다음 보정에서 맞춰진다
+    try {
+      redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(KEY), String.valueOf(event.getDelta()));
+    } catch (RuntimeException e) {
+      log.warn("승인 대기 카운터 반영 실패, delta : {}", event.getDelta(), e);
+    }
+  }
+
+  // COUNT 와 SET 사이에 커밋된 증감은 덮어써질 수 있지만 다음 보정에서 다시 맞춰진다
+  long reconcile() {
+    long actual = auctionRepository.countByAuctionProductIsWait();
+
+    try {
+      Object previous = redisTemplate.opsForValue().getAndSet(KEY, String.valueOf(actual));
+      if (previous != null) {
+        drift = Long.parseLong(previous.toString()) - actual;
+        if (drift != 0) {
+          log.info("승인 대기 카운터 보정, drift : {}", drift);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("승인 대기 카운터 보정 실패", e);
+      fallback.increment();
+    }
+    return actual;
+  }
+}
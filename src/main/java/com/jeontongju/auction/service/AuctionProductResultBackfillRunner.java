@@ -0,0 +1,33 @@
+package com.jeontongju.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// auction-product-result.backfill.enabled=true 로 기동하면 기존 입찰 내역으로 낙찰 결과를 채운다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction-product-result.backfill.enabled", havingValue = "true")
+public class AuctionProductResultBackfillRunner implements ApplicationRunner {
+
+  private final AuctionProductResultService auctionProductResultService;
+
+  @Value("${auction-product-result.backfill.batch-size:500}")
+  private int batchSize;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    long total = 0;
+    int saved;
+    while ((saved = auctionProductResultService.backfill(batchSize)) > 0) {
+      total += saved;
+      log.info("낙찰 결과 백필 진행, 누적 {}건", total);
+    }
+    log.info("낙찰 결과 백필 완료, 총 {}건", total);
+  }
+}
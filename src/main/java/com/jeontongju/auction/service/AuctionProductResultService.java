@@ -0,0 +1,49 @@
+package com.jeontongju.auction.service;
+
+import com.jeontongju.auction.domain.AuctionProductResult;
+import com.jeontongju.auction.dto.query.AuctionProductBidStatDto;
+import com.jeontongju.auction.repository.AuctionProductResultRepository;
+import com.jeontongju.auction.repository.AuctionRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionProductResultService {
+
+  private final AuctionRepository auctionRepository;
+  private final AuctionProductResultRepository auctionProductResultRepository;
+
+  /**
+   * 낙찰 결과가 없는 상품을 입찰 내역으로부터 채운다
+   *
+   * @param batchSize
+   * @return 이번 배치에서 저장한 건수
+   */
+  @Transactional
+  public int backfill(int batchSize) {
+    List<String> auctionProductIds =
+        auctionRepository.findAuctionProductIdWithoutResult(batchSize);
+
+    if (auctionProductIds.isEmpty()) {
+      return 0;
+    }
+
+    List<AuctionProductResult> resultList =
+        auctionRepository.findAuctionProductBidStat(auctionProductIds)
+            .stream()
+            .collect(Collectors.groupingBy(AuctionProductBidStatDto::getAuctionProductId))
+            .values()
+            .stream()
+            .map(AuctionProductResult::of)
+            .collect(Collectors.toList());
+
+    auctionProductResultRepository.saveAll(resultList);
+    return resultList.size();
+  }
+}
@@ -1,46 +1,62 @@
 package com.jeontongju.auction.service;
 
 import com.jeontongju.auction.client.SellerServiceFeignClient;
+import com.jeontongju.auction.client.cache.FeignResponseCache;
 import com.jeontongju.auction.domain.Auction;
 import com.jeontongju.auction.domain.AuctionProduct;
-import com.jeontongju.auction.domain.BidInfo;
+import com.jeontongju.auction.domain.AuctionProductResult;
+import com.jeontongju.auction.dto.query.AuctionProductStatusDto;
 import com.jeontongju.auction.dto.request.AuctionModifyRequestDto;
+import com.jeontongju.auction.dto.request.AuctionProductConfirmRequestDto;
 import com.jeontongju.auction.dto.request.AuctionProductRegisterRequestDto;
 import com.jeontongju.auction.dto.request.AuctionRegisterRequestDto;
 import com.jeontongju.auction.dto.response.AdminAuctionResponseDto;
 import com.jeontongju.auction.dto.response.AuctionDetailResponseDto;
-import com.jeontongju.auction.dto.response.AuctionProductBidResponseDto;
+import com.jeontongju.auction.dto.response.AuctionProductConfirmResponseDto;
 import com.jeontongju.auction.dto.response.AuctionProductResponseDto;
 import com.jeontongju.auction.dto.response.AuctionResponseDto;
 import com.jeontongju.auction.dto.response.ConsumerAuctionBidResponseDto;
+import com.jeontongju.auction.dto.response.CursorPageResponseDto;
 import com.jeontongju.auction.dto.response.SellerAuctionEntriesResponseDto;
 import com.jeontongju.auction.dto.response.SellerAuctionResponseDto;
+import com.jeontongju.auction.enums.AuctionProductConfirmResultEnum;
 import com.jeontongju.auction.enums.AuctionProductStatusEnum;
 import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.event.ApprovalWaitChangedEvent;
+import com.jeontongju.auction.event.AuctionChangedEvent;
 import com.jeontongju.auction.exception.DuplicateSellerRegisterProductException;
 import com.jeontongju.auction.exception.AuctionNotFoundException;
 import com.jeontongju.auction.exception.AuctionProductNotFoundException;
 import com.jeontongju.auction.exception.OverParticipationException;
 import com.jeontongju.auction.exception.SameWeekOfAuctionException;
 import com.jeontongju.auction.repository.AuctionProductRepository;
+import com.jeontongju.auction.repository.AuctionProductResultRepository;
 import com.jeontongju.auction.repository.AuctionRepository;
-import com.jeontongju.auction.repository.BidInfoRepository;
+import com.jeontongju.auction.util.KeysetCursor;
 import io.github.bitbox.bitbox.dto.SellerInfoForAuctionDto;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.function.BinaryOperator;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,9 +68,15 @@ public class AuctionService {
 
   private final AuctionRepository auctionRepository;
   private final AuctionProductRepository auctionProductRepository;
-  private final BidInfoRepository bidInfoRepository;
+  private final AuctionProductResultRepository auctionProductResultRepository;
   private final SellerServiceFeignClient sellerServiceFeignClient;
+  private final FeignResponseCache<Long, SellerInfoForAuctionDto> sellerInfoCache;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ApprovalWaitCounter approvalWaitCounter;
   private static final Long LIMIT_PARTICIPANTS = 20L;
+  private static final String SELLER_UNIQUE_KEY = "uk_auction_seller";
+  private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+  private static final String H2_DUPLICATE_KEY = "23505";
 
   /**
    * 셀러 - 등록 가능한 경매 조회
@@ -73,9 +95,34 @@ public class AuctionService {
    * @param pageable
    * @return Page<SellerAuctionEntriesResponseDto>
    */
+  // 출품 직후 바로 확인하는 화면이라 replica 지연을 피해 primary 에서 읽는다
+  @Transactional
   public Page<SellerAuctionEntriesResponseDto> getAuctionEntries(Long sellerId, Pageable pageable) {
-    return auctionProductRepository.findAuctionProductBySellerId(
-        sellerId, pageable).map(SellerAuctionEntriesResponseDto::new);
+    return auctionRepository.findAuctionEntries(sellerId, pageable);
+  }
+
+  /**
+   * 셀러 - 출품 내역 조회 (keyset)
+   *
+   * @param sellerId
+   * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+   * @param size
+   * @param withCount true 면 첫 페이지에서 전체 건수를 함께 센다
+   * @return CursorPageResponseDto<SellerAuctionEntriesResponseDto>
+   */
+  @Transactional
+  public CursorPageResponseDto<SellerAuctionEntriesResponseDto> getAuctionEntries(Long sellerId,
+      String cursor, int size, boolean withCount) {
+    KeysetCursor.checkSize(size);
+    List<SellerAuctionEntriesResponseDto> fetched = auctionRepository.findAuctionEntriesAfter(
+        sellerId, KeysetCursor.decode(cursor), size + 1);
+
+    Long totalElements =
+        withCount && cursor == null ? auctionProductRepository.countBySellerId(sellerId) : null;
+
+    return CursorPageResponseDto.of(fetched, size,
+        dto -> KeysetCursor.of(dto.getCreatedAt(), dto.getAuctionProductId()).encode(),
+        totalElements);
   }
 
   /**
@@ -85,7 +132,27 @@ public class AuctionService {
    * @return Page<AdminAuctionResponseDto>
    */
   public Page<AdminAuctionResponseDto> getAdminAuction(Pageable pageable) {
-    return auctionRepository.findAllByIsDeletedIsFalse(pageable).map(AdminAuctionResponseDto::new);
+    return auctionRepository.findAdminAuction(pageable);
+  }
+
+  /**
+   * 관리자 - 경매 목록 조회 (keyset)
+   *
+   * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+   * @param size
+   * @param withCount true 면 첫 페이지에서 전체 건수를 함께 센다
+   * @return CursorPageResponseDto<AdminAuctionResponseDto>
+   */
+  public CursorPageResponseDto<AdminAuctionResponseDto> getAdminAuction(String cursor, int size,
+      boolean withCount) {
+    KeysetCursor.checkSize(size);
+    List<AdminAuctionResponseDto> fetched = auctionRepository.findAdminAuctionAfter(
+        KeysetCursor.decode(cursor), size + 1);
+
+    Long totalElements = withCount && cursor == null ? auctionRepository.countAdminAuction() : null;
+
+    return CursorPageResponseDto.of(fetched, size,
+        dto -> KeysetCursor.of(dto.getCreatedAt(), dto.getAuctionId()).encode(), totalElements);
   }
 
   /**
@@ -94,43 +161,13 @@ public class AuctionService {
    * @param auctionId
    * @return AuctionDetailResponseDto
    */
+  // 상품 승인 / 거절 직후 다시 조회하는 화면이라 primary 에서 읽는다
+  @Transactional
   public AuctionDetailResponseDto getAdminAuctionDetail(String auctionId) {
-    Auction auction = auctionRepository.findById(auctionId)
+    AuctionResponseDto auction = auctionRepository.findAuctionResponse(auctionId)
         .orElseThrow(AuctionNotFoundException::new);
 
-    if (auction.getStatus().equals(AuctionStatusEnum.AFTER)) {
-      // AuctionProductBidResponseDto
-      List<AuctionProductBidResponseDto> auctionProductBidResponseDtoList =
-          Objects.isNull(auction.getAuctionProductList()) ? null :
-              auction.getAuctionProductList()
-                  .stream()
-                  .map(AuctionProductBidResponseDto::new)
-                  .collect(Collectors.toList());
-
-      return AuctionDetailResponseDto.builder()
-          .auction(
-              Optional.of(auction).map(AuctionResponseDto::new)
-                  .orElseThrow(AuctionNotFoundException::new)
-          )
-          .productList(auctionProductBidResponseDtoList)
-          .build();
-    } else {
-      // AuctionProductResponseDto
-      List<AuctionProductResponseDto> productResponseDtoList =
-          Objects.isNull(auction.getAuctionProductList()) ? null :
-              auction.getAuctionProductList()
-                  .stream()
-                  .map(AuctionProductResponseDto::new)
-                  .collect(Collectors.toList());
-
-      return AuctionDetailResponseDto.builder()
-          .auction(
-              Optional.of(auction).map(AuctionResponseDto::new)
-                  .orElseThrow(AuctionNotFoundException::new)
-          )
-          .productList(productResponseDtoList)
-          .build();
-    }
+    return toAuctionDetail(auction);
   }
 
   /**
@@ -138,14 +175,29 @@ public class AuctionService {
    *
    * @return AuctionDetailResponseDto
    */
+  // 변경 직후 응답 스냅샷을 다시 만들 때 쓰이고 스냅샷은 TTL 동안 유지되므로 replica 지연을 피해 primary 에서 읽는다
+  @Transactional
   public AuctionDetailResponseDto getThisAuctionDetail() {
 //    Auction auction = auctionRepository.findThisAuction()
 //    .orElseThrow(AuctionNotFoundException::new);
 
-    Auction auction = auctionRepository.findThisAuctionRecent()
+    AuctionResponseDto auction = auctionRepository.findThisAuctionResponseRecent()
         .orElseThrow(AuctionNotFoundException::new);
 
-    return AuctionDetailResponseDto.of(auction);
+    return toAuctionDetail(auction);
+  }
+
+  // 경매, 상품 목록, (진행 완료 시) 낙찰 결과 각각 한 번씩만 조회
+  private AuctionDetailResponseDto toAuctionDetail(AuctionResponseDto auction) {
+    List<AuctionProductResponseDto> productList =
+        auctionRepository.findAuctionProductResponse(auction.getAuctionId());
+
+    List<AuctionProductResult> resultList =
+        auction.getStatus() == AuctionStatusEnum.AFTER
+            ? auctionProductResultRepository.findByAuctionId(auction.getAuctionId())
+            : List.of();
+
+    return AuctionDetailResponseDto.of(auction, productList, resultList);
   }
 
   @Transactional
@@ -153,29 +205,35 @@ public class AuctionService {
     Auction auction = auctionRepository.findById(request.getAuctionId())
         .orElseThrow(AuctionNotFoundException::new);
 
-    long participants =
-        auction.getAuctionProductList() == null ? 0L
-            : auction.getAuctionProductList()
-                .stream()
-                .filter(
-                    auctionProduct -> {
-                      if (auctionProduct.getSellerId().equals(sellerId) &&
-                          !auctionProduct.getStatus().equals(AuctionProductStatusEnum.DENY)) {
-                        throw new DuplicateSellerRegisterProductException();
-                      }
-
-                      return auctionProduct.getStatus().equals(AuctionProductStatusEnum.ALLOW);
-                    }
-                ).count();
-
-    if (participants >= LIMIT_PARTICIPANTS) {
+    if (auction.getReservedSlots() >= LIMIT_PARTICIPANTS) {
       throw new OverParticipationException();
     }
 
-    SellerInfoForAuctionDto sellerInfo = sellerServiceFeignClient.getSellerInfoForCreateAuctionProduct(
-        sellerId).getData();
+    // 경매당 셀러 한 명은 상품 하나, 거절된 상품이 있으면 지우고 다시 등록한다
+    Optional<AuctionProduct> denied = auctionProductRepository.findByAuctionAuctionIdAndSellerId(
+        auction.getAuctionId(), sellerId);
+    if (denied.isPresent() && !denied.get().getStatus().equals(AuctionProductStatusEnum.DENY)) {
+      throw new DuplicateSellerRegisterProductException();
+    }
 
-    auctionProductRepository.save(request.toEntity(auction, sellerInfo, sellerId));
+    SellerInfoForAuctionDto sellerInfo = sellerInfoCache.get(sellerId,
+        id -> sellerServiceFeignClient.getSellerInfoForCreateAuctionProduct(id).getData());
+
+    try {
+      denied.ifPresent(auctionProduct -> {
+        auctionProductRepository.delete(auctionProduct);
+        auctionProductRepository.flush();
+      });
+      auctionProductRepository.saveAndFlush(request.toEntity(auction, sellerInfo, sellerId));
+    } catch (DataIntegrityViolationException e) {
+      // 같은 셀러의 동시 등록은 (auction_id, seller_id) 유니크 제약에서 걸린다
+      if (isSellerUniqueKeyViolation(e)) {
+        throw new DuplicateSellerRegisterProductException();
+      }
+      throw e;
+    }
+    eventPublisher.publishEvent(AuctionChangedEvent.of(auction.getAuctionId()));
+    eventPublisher.publishEvent(ApprovalWaitChangedEvent.of(1));
   }
 
   @Transactional
@@ -187,7 +245,8 @@ public class AuctionService {
       throw new SameWeekOfAuctionException();
     }
 
-    auctionRepository.save(request.toEntity());
+    Auction auction = auctionRepository.save(request.toEntity());
+    eventPublisher.publishEvent(AuctionChangedEvent.of(auction.getAuctionId()));
   }
 
   @Transactional
@@ -196,6 +255,7 @@ public class AuctionService {
         .orElseThrow(AuctionNotFoundException::new);
 
     auctionRepository.save(auction.toBuilder().isDeleted(true).build());
+    eventPublisher.publishEvent(AuctionChangedEvent.of(auctionId));
   }
 
   @Transactional
@@ -204,53 +264,189 @@ public class AuctionService {
         .orElseThrow(AuctionNotFoundException::new);
 
     auctionRepository.save(request.toEntity(auction));
+    eventPublisher.publishEvent(AuctionChangedEvent.of(auctionId));
   }
 
   @Transactional
   public void approveAuctionProduct(String auctionProductId,
       AuctionProductStatusEnum confirmStatus) {
-    AuctionProduct auctionProduct = auctionProductRepository.findById(auctionProductId).orElseThrow(
-        AuctionProductNotFoundException::new);
+    AuctionProduct auctionProduct = auctionProductRepository.findByIdForUpdate(auctionProductId)
+        .orElseThrow(AuctionProductNotFoundException::new);
+    // save 가 관리 중인 auctionProduct 에 병합되므로 이전 상태를 먼저 기억한다
+    AuctionProductStatusEnum previous = auctionProduct.getStatus();
 
+    changeSlot(auctionProduct, confirmStatus);
     auctionProductRepository.save(auctionProduct.toBuilder().status(confirmStatus).build());
+    eventPublisher.publishEvent(
+        AuctionChangedEvent.of(auctionProduct.getAuction().getAuctionId()));
+    eventPublisher.publishEvent(ApprovalWaitChangedEvent.of(
+        waitOf(confirmStatus) - waitOf(previous)));
+  }
+
+  /**
+   * 관리자 - 경매 상품 일괄 승인 / 반려
+   *
+   * <p>상품 행을 잠그고 현재 상태를 한 번에 조회한 뒤, 경매별로 자리를 잠그고 상태별로 UPDATE 한다.
+   * 반려로 돌려받는 자리를 먼저 반영하고 요청 순서대로 승인한다. 단건 승인과 같이 상품 행 -> 경매 행
+   * 순서로 잠가 서로 교착되지 않는다.
+   *
+   * @param request
+   * @return List<AuctionProductConfirmResponseDto> 요청한 상품별 처리 결과
+   */
+  @Transactional
+  public List<AuctionProductConfirmResponseDto> confirmAuctionProducts(
+      AuctionProductConfirmRequestDto request) {
+    Map<String, AuctionProductStatusEnum> requested = new LinkedHashMap<>();
+    Set<String> conflicts = new HashSet<>();
+    request.getAllow().forEach(id -> requested.put(id, AuctionProductStatusEnum.ALLOW));
+    request.getDeny().forEach(id -> {
+      if (requested.putIfAbsent(id, AuctionProductStatusEnum.DENY)
+          == AuctionProductStatusEnum.ALLOW) {
+        conflicts.add(id);
+      }
+    });
+
+    Map<String, AuctionProductStatusDto> current = auctionRepository
+        .findAuctionProductStatusForUpdate(requested.keySet()).stream()
+        .collect(Collectors.toMap(AuctionProductStatusDto::getAuctionProductId, dto -> dto));
+
+    Map<String, AuctionProductConfirmResultEnum> results = new LinkedHashMap<>();
+    Map<String, List<String>> allowByAuction = new LinkedHashMap<>();
+    Map<String, List<String>> denyByAuction = new HashMap<>();
+    Map<String, Integer> releasedByAuction = new HashMap<>();
+    // 여러 경매를 잠글 때 순서를 고정해 교착을 피한다
+    Set<String> changedAuctions = new TreeSet<>();
+
+    requested.forEach((id, confirmStatus) -> {
+      AuctionProductStatusDto product = current.get(id);
+      if (conflicts.contains(id)) {
+        results.put(id, AuctionProductConfirmResultEnum.CONFLICT);
+      } else if (product == null) {
+        results.put(id, AuctionProductConfirmResultEnum.NOT_FOUND);
+      } else if (product.getStatus().equals(confirmStatus)) {
+        results.put(id, AuctionProductConfirmResultEnum.UNCHANGED);
+      } else if (confirmStatus.equals(AuctionProductStatusEnum.ALLOW)) {
+        allowByAuction.computeIfAbsent(product.getAuctionId(), key -> new ArrayList<>()).add(id);
+        changedAuctions.add(product.getAuctionId());
+        results.put(id, AuctionProductConfirmResultEnum.OVER_PARTICIPATION);
+      } else {
+        if (product.getStatus().equals(AuctionProductStatusEnum.ALLOW)) {
+          releasedByAuction.merge(product.getAuctionId(), 1, Integer::sum);
+        }
+        denyByAuction.computeIfAbsent(product.getAuctionId(), key -> new ArrayList<>()).add(id);
+        changedAuctions.add(product.getAuctionId());
+        results.put(id, AuctionProductConfirmResultEnum.CONFIRMED);
+      }
+    });
+
+    List<String> allowIds = new ArrayList<>();
+    List<String> denyIds = new ArrayList<>();
+    for (String auctionId : changedAuctions) {
+      List<String> wanted = allowByAuction.getOrDefault(auctionId, List.of());
+      List<String> deny = denyByAuction.getOrDefault(auctionId, List.of());
+      int released = releasedByAuction.getOrDefault(auctionId, 0);
+
+      int reserved = auctionRepository.findReservedSlotsForUpdate(auctionId);
+      auctionRepository.updateAuctionProductStatus(deny, AuctionProductStatusEnum.DENY);
+      denyIds.addAll(deny);
+
+      // 실제로 ALLOW 로 바뀐 행 수만큼만 자리를 잡는다
+      int slots = Math.max(0, reserved - released);
+      List<String> candidates = wanted.subList(0,
+          (int) Math.min(wanted.size(), Math.max(0, LIMIT_PARTICIPANTS - slots)));
+      int granted = (int) auctionRepository.updateAuctionProductStatus(candidates,
+          AuctionProductStatusEnum.ALLOW);
+
+      if (released > 0 || granted > 0) {
+        auctionRepository.updateReservedSlots(auctionId, slots + granted);
+      }
+      candidates.forEach(id -> {
+        allowIds.add(id);
+        results.put(id, AuctionProductConfirmResultEnum.CONFIRMED);
+      });
+    }
+
+    changedAuctions.forEach(
+        auctionId -> eventPublisher.publishEvent(AuctionChangedEvent.of(auctionId)));
+    eventPublisher.publishEvent(ApprovalWaitChangedEvent.of(
+        -Stream.concat(allowIds.stream(), denyIds.stream())
+            .filter(id -> current.get(id).getStatus().equals(AuctionProductStatusEnum.WAIT))
+            .count()));
+
+    return results.entrySet().stream()
+        .map(entry -> AuctionProductConfirmResponseDto.of(entry.getKey(), entry.getValue()))
+        .collect(Collectors.toList());
+  }
+
+  // 제약 이름을 알 수 없으면 중복 키 오류(MySQL 1062, H2 23505)인지로 판단한다
+  private static boolean isSellerUniqueKeyViolation(DataIntegrityViolationException e) {
+    if (!(e.getCause() instanceof ConstraintViolationException)) {
+      return false;
+    }
+
+    ConstraintViolationException violation = (ConstraintViolationException) e.getCause();
+    String constraintName = violation.getConstraintName();
+    if (constraintName != null) {
+      return constraintName.toLowerCase(Locale.ROOT).contains(SELLER_UNIQUE_KEY);
+    }
+
+    SQLException sqlException = violation.getSQLException();
+    return sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+        || H2_DUPLICATE_KEY.equals(sqlException.getSQLState());
+  }
+
+  private static long waitOf(AuctionProductStatusEnum status) {
+    return status.equals(AuctionProductStatusEnum.WAIT) ? 1L : 0L;
+  }
+
+  // ALLOW 로 바뀔 때 자리를 잡고, ALLOW 에서 벗어날 때 돌려준다
+  private void changeSlot(AuctionProduct auctionProduct, AuctionProductStatusEnum confirmStatus) {
+    boolean wasAllowed = auctionProduct.getStatus().equals(AuctionProductStatusEnum.ALLOW);
+    boolean allowed = confirmStatus.equals(AuctionProductStatusEnum.ALLOW);
+    String auctionId = auctionProduct.getAuction().getAuctionId();
+
+    if (!wasAllowed && allowed
+        && auctionRepository.reserveSlot(auctionId, LIMIT_PARTICIPANTS.intValue()) == 0) {
+      throw new OverParticipationException();
+    }
+
+    if (wasAllowed && !allowed) {
+      auctionRepository.releaseSlot(auctionId);
+    }
   }
 
   public Page<ConsumerAuctionBidResponseDto> getConsumerBidInfo(Long consumerId,
       Pageable pageable) {
-    Map<String, Long> lastBidMap = bidInfoRepository.findAllByIsBidTrue().stream()
-        .collect(Collectors.toMap(bidInfo -> bidInfo.getAuctionProduct().getAuctionProductId(),
-            BidInfo::getBidPrice));
-
-    List<ConsumerAuctionBidResponseDto> result = bidInfoRepository.findByConsumerId(consumerId)
-        .stream()
-        .collect(
-            Collectors.toMap(
-                BidInfo::getAuctionProduct,
-                Function.identity(),
-                BinaryOperator.maxBy(Comparator.comparing(BidInfo::getBidPrice))
-            )
-        )
-        .values()
-        .stream()
-        .map(ConsumerAuctionBidResponseDto::new)
-        .peek(dto -> dto.initLastBidPrice(lastBidMap.get(dto.getProductId())))
-        .collect(Collectors.toList()
-        );
-
-    return toPage(result, pageable);
+    return PageableExecutionUtils.getPage(
+        auctionRepository.findConsumerBidInfo(consumerId, pageable),
+        pageable,
+        () -> auctionRepository.countConsumerBidInfo(consumerId)
+    );
   }
 
-  public Long getAllowProductCount() {
-    return auctionRepository.countByAuctionProductIsWait();
-  }
+  /**
+   * 소비자 - 입찰 내역 조회 (keyset)
+   *
+   * @param consumerId
+   * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+   * @param size
+   * @return CursorPageResponseDto<ConsumerAuctionBidResponseDto>
+   */
+  public CursorPageResponseDto<ConsumerAuctionBidResponseDto> getConsumerBidInfo(Long consumerId,
+      String cursor, int size) {
+    KeysetCursor.checkSize(size);
+    List<ConsumerAuctionBidResponseDto> fetched = auctionRepository.findConsumerBidInfoAfter(
+        consumerId, KeysetCursor.decode(cursor), size + 1);
 
+    // 전체 건수는 첫 페이지에서만 센다
+    Long totalElements = cursor == null ? auctionRepository.countConsumerBidInfo(consumerId) : null;
 
-  <T> Page<T> toPage(List<T> list, Pageable pageable) {
-    List<T> pageList = list.stream()
-        .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-        .limit(pageable.getPageSize())
-        .collect(Collectors.toList());
+    return CursorPageResponseDto.of(fetched, size,
+        dto -> KeysetCursor.of(dto.getLastBidAt(), dto.getProductId()).encode(), totalElements);
+  }
 
-    return new PageImpl<>(pageList, pageable, pageList.size());
+  public Long getAllowProductCount() {
+    return approvalWaitCounter.get();
   }
+
 }
@@ -0,0 +1,139 @@
+package com.jeontongju.auction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeontongju.auction.dto.query.BidExportDto;
+import com.jeontongju.auction.enums.BidExportFormatEnum;
+import com.jeontongju.auction.exception.InvalidBidExportRangeException;
+import com.jeontongju.auction.repository.AuctionRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자 - 입찰 내역 내보내기
+ *
+ * <p>입찰 내역을 List 로 모으지 않고 forward-only 커서로 fetch-size 만큼씩 읽어 바로 응답 스트림에 쓴다.
+ * 엔티티가 아닌 DTO 로 읽어 영속성 컨텍스트에도 쌓이지 않으므로, 메모리 사용량은 fetch-size 와 버퍼 크기로 고정된다.
+ */
+@Slf4j
+@Service
+public class BidExportService {
+
+  private static final String CSV_HEADER = "bid_info_id,auction_id,auction_title,auction_product_id,"
+      + "product_name,seller_id,store_name,consumer_id,bid_price,is_bid,bid_at";
+
+  private final AuctionRepository auctionRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+
+  // MySQL 은 jdbc url 에 useCursorFetch=true 가 있어야 fetch-size 단위로 나눠 읽는다
+  @Value("${bid-export.fetch-size:1000}")
+  private int fetchSize;
+
+  public BidExportService(AuctionRepository auctionRepository, ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.auctionRepository = auctionRepository;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  public void validate(String auctionId, LocalDate from, LocalDate to) {
+    if (auctionId == null && (from == null || to == null)) {
+      throw new InvalidBidExportRangeException();
+    }
+  }
+
+  /**
+   * @param auctionId 경매 id, 없으면 기간 전체
+   * @param from 시작일 (포함)
+   * @param to 종료일 (포함)
+   */
+  public void export(String auctionId, LocalDate from, LocalDate to, BidExportFormatEnum format,
+      OutputStream outputStream) {
+    validate(auctionId, from, to);
+    LocalDateTime fromAt = from == null ? null : from.atStartOfDay();
+    LocalDateTime toAt = to == null ? null : to.plusDays(1).atStartOfDay();
+
+    readOnlyTransaction.executeWithoutResult(status -> {
+      Writer writer = new BufferedWriter(
+          new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+      try (Stream<BidExportDto> rows = auctionRepository.streamBidExport(auctionId, fromAt, toAt,
+          fetchSize)) {
+        if (format == BidExportFormatEnum.CSV) {
+          writer.write(CSV_HEADER);
+          writer.write('\n');
+        }
+
+        long count = 0;
+        Iterator<BidExportDto> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+          write(writer, iterator.next(), format);
+          count++;
+        }
+        writer.flush();
+        log.info("입찰 내역 내보내기 완료, auctionId : {}, {} ~ {}, {}건", auctionId, from, to, count);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  private void write(Writer writer, BidExportDto row, BidExportFormatEnum format)
+      throws IOException {
+    if (format == BidExportFormatEnum.JSONL) {
+      writer.write(objectMapper.writeValueAsString(row));
+      writer.write('\n');
+      return;
+    }
+
+    writer.write(String.valueOf(row.getBidInfoId()));
+    writer.write(',');
+    writer.write(row.getAuctionId());
+    writer.write(',');
+    writer.write(csv(row.getAuctionTitle()));
+    writer.write(',');
+    writer.write(row.getAuctionProductId());
+    writer.write(',');
+    writer.write(csv(row.getProductName()));
+    writer.write(',');
+    writer.write(String.valueOf(row.getSellerId()));
+    writer.write(',');
+    writer.write(csv(row.getStoreName()));
+    writer.write(',');
+    writer.write(String.valueOf(row.getConsumerId()));
+    writer.write(',');
+    writer.write(String.valueOf(row.getBidPrice()));
+    writer.write(',');
+    writer.write(String.valueOf(row.getIsBid()));
+    writer.write(',');
+    writer.write(String.valueOf(row.getBidAt()));
+    writer.write('\n');
+  }
+
+  // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다
+  private static String csv(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,76 @@
+package com.jeontongju.auction.service;
+
+import com.jeontongju.auction.enums.BidStageEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입찰 처리 단계별 지연 시간과 입찰 접수부터 /sub/bid-info 전송까지의 지연 시간
+ *
+ * <p>접수 시각은 BID_INFO 메시지 헤더로 전달해 각 노드가 프레임을 보낸 시점에 기록한다.
+ * 노드 간 시계 차이가 그대로 포함되므로 NTP 로 맞춰진 환경을 전제로 한다.
+ */
+@Component
+public class BidPipelineMetrics {
+
+  public static final String BID_RECEIVED_AT_HEADER = "bid-received-at";
+
+  private final MeterRegistry meterRegistry;
+  private final Duration[] stageSlo;
+  private final Duration[] endToEndSlo;
+
+  public BidPipelineMetrics(MeterRegistry meterRegistry,
+      @Value("${bid-metrics.stage-slo-millis:1,2,5,10,25,50,100}") long[] stageSloMillis,
+      @Value("${bid-metrics.end-to-end-slo-millis:10,25,50,100,250,500,1000,2500}")
+          long[] endToEndSloMillis) {
+    this.meterRegistry = meterRegistry;
+    this.stageSlo = toDurations(stageSloMillis);
+    this.endToEndSlo = toDurations(endToEndSloMillis);
+  }
+
+  // 단계 소요 시간을 기록하고 다음 단계의 시작 시각을 돌려준다
+  public long recordStage(BidStageEnum stage, String auctionId, long startedAtNanos) {
+    return recordStage(stage, auctionId, startedAtNanos, System.nanoTime());
+  }
+
+  // auctionId 는 클라이언트가 보낸 값이므로 진행 중인 경매임을 확인한 뒤에만 기록해야 한다
+  public long recordStage(BidStageEnum stage, String auctionId, long startedAtNanos,
+      long endedAtNanos) {
+    Timer.builder("auction.bid.stage")
+        .tag("stage", stage.getValue())
+        .tag("auctionId", auctionId)
+        .serviceLevelObjectives(stageSlo)
+        .register(meterRegistry)
+        .record(endedAtNanos - startedAtNanos, TimeUnit.NANOSECONDS);
+    return endedAtNanos;
+  }
+
+  public void recordEndToEnd(String auctionId, byte[] receivedAtHeader) {
+    if (receivedAtHeader == null) {
+      return;
+    }
+
+    long receivedAt;
+    try {
+      receivedAt = Long.parseLong(new String(receivedAtHeader, StandardCharsets.UTF_8));
+    } catch (NumberFormatException e) {
+      return;
+    }
+
+    Timer.builder("auction.bid.end-to-end")
+        .tag("auctionId", auctionId)
+        .serviceLevelObjectives(endToEndSlo)
+        .register(meterRegistry)
+        .record(Math.max(0, System.currentTimeMillis() - receivedAt), TimeUnit.MILLISECONDS);
+  }
+
+  private static Duration[] toDurations(long[] millis) {
+    return Arrays.stream(millis).mapToObj(Duration::ofMillis).toArray(Duration[]::new);
+  }
+}
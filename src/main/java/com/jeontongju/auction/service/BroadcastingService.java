@@ -6,9 +6,11 @@ import static io.github.bitbox.bitbox.util.KafkaTopicNameInfo.BID_INFO;
 import static io.github.bitbox.bitbox.util.KafkaTopicNameInfo.BID_RESULT;
 import static io.github.bitbox.bitbox.util.KafkaTopicNameInfo.CREATE_AUCTION_ORDER;
 
+import com.jeontongju.auction.client.ConsumerInfoLoader;
 import com.jeontongju.auction.client.ConsumerServiceFeignClient;
 import com.jeontongju.auction.domain.Auction;
 import com.jeontongju.auction.domain.AuctionProduct;
+import com.jeontongju.auction.domain.AuctionProductResult;
 import com.jeontongju.auction.domain.BidInfo;
 import com.jeontongju.auction.dto.redis.AuctionBidHistoryDto;
 import com.jeontongju.auction.dto.request.AuctionBidRequestDto;
@@ -22,16 +24,24 @@ import com.jeontongju.auction.dto.socket.BidResultListDto;
 import com.jeontongju.auction.dto.socket.ChatMessageDto;
 import com.jeontongju.auction.enums.AuctionProductStatusEnum;
 import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.enums.BidStageEnum;
+import com.jeontongju.auction.event.AuctionChangedEvent;
 import com.jeontongju.auction.exception.AuctionNotFoundException;
 import com.jeontongju.auction.exception.AuctionProductNotFoundException;
 import com.jeontongju.auction.exception.EmptyAuctionProductException;
 import com.jeontongju.auction.exception.InvalidAuctionStatusException;
 import com.jeontongju.auction.exception.InvalidBidPriceException;
 import com.jeontongju.auction.exception.InvalidConsumerCreditException;
+import com.jeontongju.auction.jfr.BidEvent;
+import com.jeontongju.auction.jfr.BidSnapshotEvent;
+import com.jeontongju.auction.jfr.FanoutEvent;
+import com.jeontongju.auction.jfr.HammerDownEvent;
 import com.jeontongju.auction.kafka.KafkaProcessor;
 import com.jeontongju.auction.repository.AuctionProductRepository;
+import com.jeontongju.auction.repository.AuctionProductResultRepository;
 import com.jeontongju.auction.repository.AuctionRepository;
 import com.jeontongju.auction.repository.BidInfoRepository;
+import com.jeontongju.auction.tracing.AuctionSpans;
 import io.github.bitbox.bitbox.dto.AuctionOrderDto;
 import io.github.bitbox.bitbox.dto.MemberDto;
 import io.github.bitbox.bitbox.enums.MemberRoleEnum;
@@ -43,6 +53,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -52,11 +63,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -72,6 +85,7 @@ public class BroadcastingService {
   private final AuctionRepository auctionRepository;
   private final AuctionProductRepository auctionProductRepository;
   private final BidInfoRepository bidInfoRepository;
+  private final AuctionProductResultRepository auctionProductResultRepository;
   private final ObjectProvider<SubProtocolWebSocketHandler> subProtocolHandlerObjectProvider;
 
   @Qualifier("redisStringTemplate")
@@ -93,6 +107,10 @@ public class BroadcastingService {
   private final SimpMessagingTemplate template;
 
   private final ConsumerServiceFeignClient client;
+  private final ConsumerInfoLoader consumerInfoLoader;
+  private final ApplicationEventPublisher eventPublisher;
+  private final BidPipelineMetrics bidPipelineMetrics;
+  private final AuctionSpans spans;
 
   public void startAuction(String auctionId) {
     Auction auction = auctionRepository.findById(auctionId)
@@ -126,6 +144,7 @@ public class BroadcastingService {
     auctionRedis.set("auction", auctionId);
 
     auctionRepository.save(auction.toBuilder().status(AuctionStatusEnum.ING).build());
+    eventPublisher.publishEvent(AuctionChangedEvent.of(auctionId));
   }
 
   public void endAuction(String auctionId) {
@@ -146,48 +165,84 @@ public class BroadcastingService {
             .endDate(LocalDateTime.now())
             .build()
     );
+    eventPublisher.publishEvent(AuctionChangedEvent.of(auctionId));
   }
 
   public void bidProduct(AuctionBidRequestDto auctionBidRequestDto, Long consumerId) {
+    BidEvent event = BidEvent.begin(auctionBidRequestDto.getAuctionId(), consumerId,
+        auctionBidRequestDto.getBidPrice());
+    try {
+      event.accept(spans.call("bid", AuctionSpans.AUCTION, auctionBidRequestDto.getAuctionId(),
+          () -> processBid(auctionBidRequestDto, consumerId)));
+    } catch (RuntimeException e) {
+      event.reject(e);
+      throw e;
+    } finally {
+      event.commit();
+    }
+  }
+
+  // 입찰을 검사 / 저장하고 입찰한 경매 상품 id 를 돌려준다
+  private String processBid(AuctionBidRequestDto auctionBidRequestDto, Long consumerId) {
+    long receivedAt = System.currentTimeMillis();
+    long stageStartedAt = System.nanoTime();
     String auctionId = auctionBidRequestDto.getAuctionId();
     Long bidPrice = auctionBidRequestDto.getBidPrice();
     // 1. 크레딧 검사
     ValueOperations<String, MemberDto> memberRedis = redisGenericTemplate.opsForValue();
-    MemberDto memberDto = memberRedis.get("consumer_id_" + consumerId);
+    MemberDto memberDto = spans.call("redis:member", AuctionSpans.REDIS, auctionId,
+        () -> memberRedis.get("consumer_id_" + consumerId));
     Long memberCredit = memberDto.getCredit();
 
     if (memberCredit == null || memberCredit < bidPrice) {
       throw new InvalidConsumerCreditException();
     }
+    long creditCheckedAt = System.nanoTime();
 
     // 2. 시작가보다 낮은지 검사
-    ValueOperations<String, Integer> productIdx = redisTemplate.opsForValue();
-    int index = productIdx.get(auctionId + "_index");
-    long startingPrice = getAuctionProductListFromRedis(auctionId).get(index).getStartingPrice();
+    long startingPrice = spans.call("redis:starting-price", AuctionSpans.REDIS, auctionId, () -> {
+      ValueOperations<String, Integer> productIdx = redisTemplate.opsForValue();
+      int index = productIdx.get(auctionId + "_index");
+      return getAuctionProductListFromRedis(auctionId).get(index).getStartingPrice();
+    });
     if (bidPrice < startingPrice) {
       throw new InvalidBidPriceException();
     }
-    
+    // 진행 중인 경매의 상품 목록을 찾은 뒤에 기록해 임의의 auctionId 로 시계열이 늘어나지 않게 한다
+    bidPipelineMetrics.recordStage(
+        BidStageEnum.CREDIT_CHECK, auctionId, stageStartedAt, creditCheckedAt);
+    stageStartedAt = bidPipelineMetrics.recordStage(
+        BidStageEnum.PRICE_VALIDATION, auctionId, creditCheckedAt);
+
     // 3. ZSET 우선순위 검사 (bidPrice가 큰 순서, 같으면 입찰 시간이 빠른 순서)
-    String auctionProductId = getAuctionProductIdFromRedis(auctionId);
+    String auctionProductId = spans.call("redis:auction-product", AuctionSpans.REDIS, auctionId,
+        () -> getAuctionProductIdFromRedis(auctionId));
     AuctionBidHistoryDto historyDto = AuctionBidHistoryDto
         .of(memberDto, auctionProductId, bidPrice);
 
     long milliTime = LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
     double nanoScore = (double)(FUTURE_MILLI_TIME- milliTime) / FUTURE_MILLI_TIME;
     double totalScore = bidPrice + nanoScore;
-    log.info("total score : {}", totalScore);
+    log.debug("total score : {}", totalScore);
 
     // 4. 입찰 내역 저장
-    ZSetOperations<String, AuctionBidHistoryDto> bidHistoryRedis = redisGenericTemplate.opsForZSet();
-    Double zscore = bidHistoryRedis.score("auction_product_id" + auctionProductId, historyDto);
-    bidHistoryRedis.addIfAbsent("auction_product_id" + auctionProductId, historyDto, totalScore);
-    if (zscore != null && zscore < totalScore) {
-        bidHistoryRedis.add("auction_product_id" + auctionProductId, historyDto, totalScore);
-    }
-
-    // 5. 입찰 완료 토픽 발행
-    kafkaProcessor.send(BID_INFO, auctionId);
+    spans.run("redis:bid-history-write", AuctionSpans.REDIS, auctionId, () -> {
+      ZSetOperations<String, AuctionBidHistoryDto> bidHistoryRedis = redisGenericTemplate.opsForZSet();
+      Double zscore = bidHistoryRedis.score("auction_product_id" + auctionProductId, historyDto);
+      bidHistoryRedis.addIfAbsent("auction_product_id" + auctionProductId, historyDto, totalScore);
+      if (zscore != null && zscore < totalScore) {
+          bidHistoryRedis.add("auction_product_id" + auctionProductId, historyDto, totalScore);
+      }
+    });
+    stageStartedAt = bidPipelineMetrics.recordStage(
+        BidStageEnum.ZSET_WRITE, auctionId, stageStartedAt);
+
+    // 5. 입찰 완료 토픽 발행 - 접수 시각을 헤더로 실어 전송 노드에서 전체 지연 시간을 잰다
+    spans.run("kafka:" + BID_INFO, AuctionSpans.KAFKA, auctionId,
+        () -> kafkaProcessor.send(BID_INFO, auctionId,
+            Map.of(BidPipelineMetrics.BID_RECEIVED_AT_HEADER, String.valueOf(receivedAt))));
+    bidPipelineMetrics.recordStage(BidStageEnum.KAFKA_PUBLISH, auctionId, stageStartedAt);
+    return auctionProductId;
   }
 
   public AuctionBroadcastBidHistoryResultResponseDto enterAuction(Long consumerId,
@@ -237,89 +292,124 @@ public class BroadcastingService {
 
   @Transactional
   public void successfulBid(String auctionId) {
-    List<BroadcastProductResponseDto> productList = getAuctionProductListFromRedis(auctionId);
-    String auctionProductId = getAuctionProductIdFromRedis(auctionId);
-
-    // 1. 경매 물품 입찰 내역 조회
-    List<AuctionBidHistoryDto> bidInfoHistoryList = getAuctionBidHistoryDto(auctionId);
-
-    // 2. 입찰 내역이 없을 시 반환
-    if (bidInfoHistoryList.isEmpty()) {
-      return;
-    }
+    spans.run("hammer-down", AuctionSpans.AUCTION, auctionId, () -> hammerDown(auctionId));
+  }
 
-    // 3. 낙찰 내역에 해당하는 유저 크레딧 차감
-    AuctionBidHistoryDto successfulBid = bidInfoHistoryList.get(0);
-    client.deductCredit(successfulBid.getMemberId(), successfulBid.getBidPrice());
+  private void hammerDown(String auctionId) {
+    List<BroadcastProductResponseDto> productList = spans.call("redis:auction-products",
+        AuctionSpans.REDIS, auctionId, () -> getAuctionProductListFromRedis(auctionId));
+    String auctionProductId = spans.call("redis:auction-product", AuctionSpans.REDIS, auctionId,
+        () -> getAuctionProductIdFromRedis(auctionId));
+
+    HammerDownEvent phase = HammerDownEvent.begin(auctionId, auctionProductId, "bid-history");
+    try {
+      // 1. 경매 물품 입찰 내역 조회
+      List<AuctionBidHistoryDto> bidInfoHistoryList = spans.call("redis:bid-history-read",
+          AuctionSpans.REDIS, auctionId, () -> getAuctionBidHistoryDto(auctionId));
+
+      // 2. 입찰 내역이 없을 시 반환
+      if (bidInfoHistoryList.isEmpty()) {
+        return;
+      }
 
-    // 4. RDB 내역 저장
-    Auction auction = auctionRepository.findById(auctionId)
-        .orElseThrow(AuctionNotFoundException::new);
-    AuctionProduct auctionProduct = auctionProductRepository.findById(auctionProductId)
-        .orElseThrow(AuctionProductNotFoundException::new);
-
-    List<BidInfo> list = convert(bidInfoHistoryList, auction, auctionProduct);
-    int idx = list.size() - 1;
-    list.set(idx, list.get(idx).toBuilder().isBid(true).build());
-    bidInfoRepository.saveAll(list);
-
-    // 5. 주문 카프카 발행
-    kafkaProcessor.send(
-        CREATE_AUCTION_ORDER,
-        AuctionOrderDto.of(
-            successfulBid.getMemberId(), successfulBid.getBidPrice(),
-            auctionProductId, auctionProduct.getName(),
-            successfulBid.getBidPrice(), auctionProduct.getSellerId(),
-            auctionProduct.getStoreName(), auctionProduct.getThumbnailImageUrl(),
-            1L
-        )
-    );
+      // 3. 낙찰 내역에 해당하는 유저 크레딧 차감
+      phase = phase.next("credit-deduct");
+      AuctionBidHistoryDto successfulBid = bidInfoHistoryList.get(0);
+      spans.run("feign:deduct-credit", AuctionSpans.FEIGN, auctionId,
+          () -> client.deductCredit(successfulBid.getMemberId(), successfulBid.getBidPrice()));
+
+      // 4. RDB 내역 저장
+      phase = phase.next("persist");
+      Auction auction = auctionRepository.findById(auctionId)
+          .orElseThrow(AuctionNotFoundException::new);
+      AuctionProduct auctionProduct = auctionProductRepository.findById(auctionProductId)
+          .orElseThrow(AuctionProductNotFoundException::new);
+
+      // 입찰 내역은 입찰가 내림차순이므로 첫 번째가 낙찰 건
+      List<BidInfo> list = convert(bidInfoHistoryList, auction, auctionProduct);
+      list.set(0, list.get(0).toBuilder().isBid(true).build());
+      bidInfoRepository.saveAll(list);
+      auctionProductResultRepository.save(AuctionProductResult.of(auctionProduct, list));
+
+      // 5. 주문 카프카 발행
+      phase = phase.next("order-publish");
+      spans.run("kafka:" + CREATE_AUCTION_ORDER, AuctionSpans.KAFKA, auctionId,
+          () -> kafkaProcessor.send(
+              CREATE_AUCTION_ORDER,
+              AuctionOrderDto.of(
+                  successfulBid.getMemberId(), successfulBid.getBidPrice(),
+                  auctionProductId, auctionProduct.getName(),
+                  successfulBid.getBidPrice(), auctionProduct.getSellerId(),
+                  auctionProduct.getStoreName(), auctionProduct.getThumbnailImageUrl(),
+                  1L
+              )
+          ));
+
+      // 6. 입찰 내역 삭제
+      phase = phase.next("cleanup");
+      spans.run("redis:cleanup", AuctionSpans.REDIS, auctionId, () -> {
+        redisGenericTemplate.delete("auction_product_id" + auctionProductId);
+        redisTemplate.delete("asking_price_" + auctionProductId);
+      });
+
+      // 7. 진행도 다음으로 수정
+      int index = spans.call("redis:progress", AuctionSpans.REDIS, auctionId, () -> {
+        ValueOperations<String, Integer> productIdx = redisTemplate.opsForValue();
+        int current = productIdx.get(auctionId + "_index");
+        productIdx.set(auctionId + "_index", current + 1);
+        return current;
+      });
+
+      productList.get(index).closeProgress();
+      if (index < productList.size() - 1) {
+        productList.get(index + 1).proceedProgress();
+      }
 
-    // 6. 입찰 내역 삭제
-    redisGenericTemplate.delete("auction_product_id" + auctionProductId);
-    redisTemplate.delete("asking_price_" + auctionProductId);
+      // 8. Kafka 정보 전송
+      phase = phase.next("broadcast");
+      ValueOperations<String, List<BroadcastProductResponseDto>> auctionProductRedis = redisGenericTemplate.opsForValue();
+      spans.run("redis:auction-products-write", AuctionSpans.REDIS, auctionId,
+          () -> auctionProductRedis.set("auction_id_" + auctionId, productList, TTL, TimeUnit.HOURS));
 
-    // 7. 진행도 다음으로 수정
-    ValueOperations<String, Integer> productIdx = redisTemplate.opsForValue();
-    int index = productIdx.get(auctionId + "_index");
-    productIdx.set(auctionId + "_index", index + 1);
+      spans.run("kafka:" + BID_INFO, AuctionSpans.KAFKA, auctionId,
+          () -> kafkaProcessor.send(BID_INFO, auctionId));
 
-    productList.get(index).closeProgress();
-    if (index < productList.size() - 1) {
-      productList.get(index + 1).proceedProgress();
+      ValueOperations<String, MemberDto> memberRedis = redisGenericTemplate.opsForValue();
+      MemberDto memberDto = spans.call("redis:member", AuctionSpans.REDIS, auctionId,
+          () -> memberRedis.get("consumer_id_" + successfulBid.getMemberId()));
+      String nickname = memberDto.getNickname();
+
+      spans.run("kafka:" + BID_CHAT, AuctionSpans.KAFKA, auctionId,
+          () -> kafkaProcessor.send(BID_CHAT,
+              setNotificationMessage(auctionId, successfulBidMessage(nickname))));
+
+      ValueOperations<String, BidResultListDto> bidResultRedis = redisGenericTemplate.opsForValue();
+      BidResultListDto bidResultListDto = Objects.requireNonNullElse(
+          spans.call("redis:bid-result-read", AuctionSpans.REDIS, auctionId,
+              () -> bidResultRedis.get("bid_result_" + auctionId)),
+          BidResultListDto.create(auctionId)
+      );
+
+      bidResultListDto.addResult(
+          BidResultDto.of(
+              successfulBid.getMemberId(),
+              nickname,
+              auctionProductId,
+              auctionProduct.getName(),
+              successfulBid.getBidPrice()
+          )
+      );
+
+      spans.run("redis:bid-result-write", AuctionSpans.REDIS, auctionId,
+          () -> bidResultRedis.set("bid_result_" + auctionId, bidResultListDto, TTL, TimeUnit.HOURS));
+      spans.run("kafka:" + BID_RESULT, AuctionSpans.KAFKA, auctionId,
+          () -> kafkaProcessor.send(BID_RESULT, bidResultListDto));
+    } catch (RuntimeException e) {
+      phase.fail(e);
+      throw e;
+    } finally {
+      phase.commit();
     }
-
-    // 8. Kafka 정보 전송
-    ValueOperations<String, List<BroadcastProductResponseDto>> auctionProductRedis = redisGenericTemplate.opsForValue();
-    auctionProductRedis.set("auction_id_" + auctionId, productList, TTL, TimeUnit.HOURS);
-
-    kafkaProcessor.send(BID_INFO, auctionId);
-
-    ValueOperations<String, MemberDto> memberRedis = redisGenericTemplate.opsForValue();
-    MemberDto memberDto = memberRedis.get("consumer_id_" + successfulBid.getMemberId());
-    String nickname = memberDto.getNickname();
-
-    kafkaProcessor.send(BID_CHAT,
-        setNotificationMessage(auctionId, successfulBidMessage(nickname)));
-
-    ValueOperations<String, BidResultListDto> bidResultRedis = redisGenericTemplate.opsForValue();
-    BidResultListDto bidResultListDto = Objects.requireNonNullElse(
-        bidResultRedis.get("bid_result_" + auctionId),
-        BidResultListDto.create(auctionId)
-    );
-
-    bidResultListDto.addResult(
-        BidResultDto.of(
-            successfulBid.getMemberId(),
-            nickname,
-            auctionProductId,
-            auctionProduct.getName(),
-            successfulBid.getBidPrice()
-        )
-    );
-
-    bidResultRedis.set("bid_result_" + auctionId, bidResultListDto, TTL, TimeUnit.HOURS);
-    kafkaProcessor.send(BID_RESULT, bidResultListDto);
   }
 
   public void sendMessageToKafka(ChatMessageRequestDto message, String auctionId) {
@@ -343,14 +433,33 @@ public class BroadcastingService {
 
   // 입찰 내역, 호가 전달
   @KafkaListener(topics = BID_INFO)
-  public void pubBidInfo(String auctionId) {
-    template.convertAndSend("/sub/bid-info/" + auctionId, getPublishingBidHistory(auctionId));
+  public void pubBidInfo(String auctionId,
+      @Header(name = BidPipelineMetrics.BID_RECEIVED_AT_HEADER, required = false) byte[] receivedAt) {
+    FanoutEvent event = FanoutEvent.begin(auctionId, "/sub/bid-info");
+    try {
+      template.convertAndSend("/sub/bid-info/" + auctionId, getPublishingBidHistory(auctionId));
+    } catch (RuntimeException e) {
+      event.fail(e);
+      throw e;
+    } finally {
+      event.commit();
+    }
+    bidPipelineMetrics.recordEndToEnd(auctionId, receivedAt);
   }
 
   // 낙찰 내역 전달
   @KafkaListener(topics = BID_RESULT)
   public void pubBidResult(BidResultListDto bidResultListDto) {
-    template.convertAndSend("/sub/bid-result/" + bidResultListDto.getAuctionId(), bidResultListDto);
+    FanoutEvent event = FanoutEvent.begin(bidResultListDto.getAuctionId(), "/sub/bid-result");
+    try {
+      template.convertAndSend("/sub/bid-result/" + bidResultListDto.getAuctionId(),
+          bidResultListDto);
+    } catch (RuntimeException e) {
+      event.fail(e);
+      throw e;
+    } finally {
+      event.commit();
+    }
   }
 
   // 경매 인원 수 전달
@@ -403,8 +512,11 @@ public class BroadcastingService {
   }
 
   public BidHistoryInprogressDto getPublishingBidHistory(String auctionId) {
+    BidSnapshotEvent event = BidSnapshotEvent.begin(auctionId);
+
     // 경매 상품 입찰 내역 조회
     List<AuctionBidHistoryDto> bidHistoryList = getAuctionBidHistoryDto(auctionId);
+    int bidCount = bidHistoryList.size();
 
     while (bidHistoryList.size() < 5) {
       bidHistoryList.add(AuctionBidHistoryDto.of(new MemberDto(), "", 0L));
@@ -420,13 +532,14 @@ public class BroadcastingService {
     Long askingPrice = Objects.requireNonNullElse(
         askingPriceRedis.get("asking_price_" + auctionProductId), 0L);
 
+    event.end(auctionProductId, bidCount);
     return BidHistoryInprogressDto.of(bidHistoryList, productList, askingPrice);
   }
 
   public void setCredit(Long consumerId, MemberRoleEnum memberRoleEnum) {
     if (consumerId != null & memberRoleEnum != null) {
       if (!memberRoleEnum.equals(MemberRoleEnum.ROLE_ADMIN)) {
-        MemberDto memberDto = client.getConsumerInfo(consumerId).getData().to(consumerId);
+        MemberDto memberDto = consumerInfoLoader.load(consumerId);
         ValueOperations<String, MemberDto> memberRedis = redisGenericTemplate.opsForValue();
         memberRedis.set("consumer_id_" + consumerId, memberDto, TTL, TimeUnit.HOURS);
       }
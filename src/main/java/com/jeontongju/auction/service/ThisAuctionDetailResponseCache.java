@@ -0,0 +1,132 @@
+package com.jeontongju.auction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeontongju.auction.dto.response.AuctionDetailResponseDto;
+import com.jeontongju.auction.event.AuctionCacheInvalidator;
+import com.jeontongju.auction.event.AuctionChangedEvent;
+import io.github.bitbox.bitbox.dto.ResponseFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 소비자 - 이번 주 경매 상세 응답 캐시
+ *
+ * <p>직렬화된 응답 본문과 ETag 를 메모리에 들고 있다가, 경매 / 상품 상태가 바뀌면 버리고
+ * 다음 요청에서 한 번만 다시 만든다. 무효화 메시지를 놓쳐도 TTL 이 지나면 다시 만든다.
+ */
+@Slf4j
+@Component
+public class ThisAuctionDetailResponseCache {
+
+  private final AuctionService auctionService;
+  private final ObjectMapper objectMapper;
+  private final Counter rebuilt;
+  private final Duration ttl;
+
+  // 다시 만드는 도중 변경이 들어오면 만든 결과를 버리기 위한 세대 번호
+  private final AtomicLong generation = new AtomicLong();
+  private volatile Snapshot snapshot;
+
+  public ThisAuctionDetailResponseCache(AuctionService auctionService, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${auction-detail-cache.ttl-seconds:600}") long ttlSeconds) {
+    this.auctionService = auctionService;
+    this.objectMapper = objectMapper;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+    this.rebuilt = Counter.builder("auction.detail.cache.rebuild")
+        .register(meterRegistry);
+  }
+
+  public Snapshot get() {
+    Snapshot current = snapshot;
+    if (isValid(current)) {
+      return current;
+    }
+
+    synchronized (this) {
+      if (isValid(snapshot)) {
+        return snapshot;
+      }
+
+      long startedAt = generation.get();
+      Snapshot built = build();
+      if (generation.get() == startedAt) {
+        snapshot = built;
+      }
+      return built;
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAuctionChanged(AuctionChangedEvent event) {
+    invalidate();
+  }
+
+  // 다른 인스턴스의 변경도 반영한다
+  @KafkaListener(
+      topics = AuctionCacheInvalidator.AUCTION_CACHE_INVALIDATION,
+      groupId = "auction-detail-#{T(java.util.UUID).randomUUID()}",
+      properties = "auto.offset.reset=latest"
+  )
+  public void onRemoteAuctionChanged(String auctionId) {
+    invalidate();
+  }
+
+  public void invalidate() {
+    generation.incrementAndGet();
+    snapshot = null;
+  }
+
+  private boolean isValid(Snapshot current) {
+    return current != null && current.age().compareTo(ttl) < 0;
+  }
+
+  private Snapshot build() {
+    AuctionDetailResponseDto detail = auctionService.getThisAuctionDetail();
+
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(
+          ResponseFormat.<AuctionDetailResponseDto>builder()
+              .code(HttpStatus.OK.value())
+              .message(HttpStatus.OK.getReasonPhrase())
+              .detail("경매 조회 성공")
+              .data(detail)
+              .build()
+      );
+      rebuilt.increment();
+      return new Snapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Getter
+  public static class Snapshot {
+
+    private final byte[] body;
+    private final String etag;
+    @Getter(AccessLevel.NONE)
+    private final long builtAt = System.nanoTime();
+
+    private Snapshot(byte[] body, String etag) {
+      this.body = body;
+      this.etag = etag;
+    }
+
+    private Duration age() {
+      return Duration.ofNanos(System.nanoTime() - builtAt);
+    }
+  }
+}
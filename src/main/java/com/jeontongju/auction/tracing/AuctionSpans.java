@@ -0,0 +1,49 @@
+package com.jeontongju.auction.tracing;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracer.SpanInScope;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매 처리 중 Redis / Feign / Kafka 호출을 현재 트레이스의 자식 스팬으로 감싼다
+ *
+ * <p>현재 스팬이 없으면 새 트레이스의 루트 스팬이 된다. 예외가 나면 스팬에 에러로 남아
+ * tail 샘플링 대상이 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionSpans {
+
+  public static final String AUCTION = "auction";
+  public static final String REDIS = "redis";
+  public static final String FEIGN = "feign";
+  public static final String KAFKA = "kafka";
+
+  private final Tracer tracer;
+
+  public <T> T call(String name, String component, String auctionId, Supplier<T> work) {
+    Span span = tracer.nextSpan()
+        .name(name)
+        .tag("component", component)
+        .tag("auctionId", String.valueOf(auctionId))
+        .start();
+    try (SpanInScope ignored = tracer.withSpanInScope(span)) {
+      return work.get();
+    } catch (RuntimeException | Error e) {
+      span.error(e);
+      throw e;
+    } finally {
+      span.finish();
+    }
+  }
+
+  public void run(String name, String component, String auctionId, Runnable work) {
+    call(name, component, auctionId, () -> {
+      work.run();
+      return null;
+    });
+  }
+}
@@ -0,0 +1,28 @@
+package com.jeontongju.auction.tracing;
+
+import brave.TracingCustomizer;
+import brave.sampler.Sampler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * tail 샘플링을 쓰면 새로 시작하는 트레이스는 헤드 샘플링하지 않고, 샘플링되지 않은 스팬도 로컬에서 기록한다
+ *
+ * <p>내보낼지는 {@link TailSamplingSpanHandler} 가 트레이스가 끝난 뒤 정하며, 무작위 기준선도 거기서 뽑는다.
+ * spring.sleuth.sampler.* 설정은 이 빈이 있으면 쓰이지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tail-sampling.enabled", matchIfMissing = true)
+public class TailSamplingConfig {
+
+  @Bean
+  public Sampler tailSamplingHeadSampler() {
+    return Sampler.NEVER_SAMPLE;
+  }
+
+  @Bean
+  public TracingCustomizer alwaysSampleLocal() {
+    return builder -> builder.alwaysSampleLocal();
+  }
+}
@@ -0,0 +1,219 @@
+package com.jeontongju.auction.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import zipkin2.reporter.brave.ZipkinSpanHandler;
+
+/**
+ * 트레이스 단위 tail 샘플링
+ *
+ * <p>헤드 샘플링되지 않은 스팬도 로컬에서 모두 기록하게 하고({@link TailSamplingConfig}) 로컬 루트 스팬 id
+ * 별로 모아둔다. 로컬 루트가 끝나면 지연 시간이 임계값을 넘었거나 에러가 있는 트레이스, 그리고 일부 무작위
+ * 트레이스만 Zipkin 으로 내보낸다.
+ * 업스트림에서 이미 샘플링된 트레이스는 그대로 통과시킨다.
+ *
+ * <p>버퍼는 트레이스 수와 트레이스당 스팬 수로 제한한다. 루트가 끝나지 않았거나 루트보다 늦게 끝난 자식 스팬의
+ * 버퍼는 주기적으로 만료시켜 버린다.
+ * 판정 결과는 tracing.tail-sampling.traces(decision=latency|error|baseline|dropped|expired|overflow) 로
+ * 노출된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tail-sampling.enabled", matchIfMissing = true)
+public class TailSamplingSpanHandler extends SpanHandler {
+
+  private static final long EVICT_INTERVAL_MILLIS = 1000;
+
+  private final ObjectProvider<SpanHandler> spanHandlers;
+  private final MeterRegistry meterRegistry;
+  private final long latencyThresholdMicros;
+  private final double baselineRatio;
+  private final int maxTraces;
+  private final int maxSpansPerTrace;
+  private final long bufferTimeoutNanos;
+
+  private final Map<Long, TraceBuffer> buffers = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService evictor;
+  private volatile SpanHandler exporter;
+
+  public TailSamplingSpanHandler(ObjectProvider<SpanHandler> spanHandlers,
+      MeterRegistry meterRegistry,
+      @Value("${tail-sampling.latency-threshold-millis:500}") long latencyThresholdMillis,
+      @Value("${tail-sampling.baseline-ratio:0.01}") double baselineRatio,
+      @Value("${tail-sampling.max-traces:1000}") int maxTraces,
+      @Value("${tail-sampling.max-spans-per-trace:200}") int maxSpansPerTrace,
+      @Value("${tail-sampling.buffer-timeout-seconds:30}") long bufferTimeoutSeconds) {
+    this.spanHandlers = spanHandlers;
+    this.meterRegistry = meterRegistry;
+    this.latencyThresholdMicros = TimeUnit.MILLISECONDS.toMicros(latencyThresholdMillis);
+    this.baselineRatio = baselineRatio;
+    this.maxTraces = maxTraces;
+    this.maxSpansPerTrace = maxSpansPerTrace;
+    this.bufferTimeoutNanos = TimeUnit.SECONDS.toNanos(bufferTimeoutSeconds);
+    this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "tail-sampling-evictor");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PostConstruct
+  void start() {
+    evictor.scheduleWithFixedDelay(this::evictExpired, EVICT_INTERVAL_MILLIS,
+        EVICT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    evictor.shutdown();
+  }
+
+  @Override
+  public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+    if (Boolean.TRUE.equals(context.sampled())) {
+      return true;
+    }
+    if (cause == Cause.ABANDONED) {
+      return false;
+    }
+
+    long localRootId = context.localRootId();
+    if (context.spanId() != localRootId) {
+      buffer(localRootId, context, span);
+      return false;
+    }
+
+    TraceBuffer buffer = buffers.remove(localRootId);
+    List<BufferedSpan> spans = buffer == null ? new ArrayList<>() : buffer.drain();
+    spans.add(new BufferedSpan(context, span));
+
+    String decision = decide(span, buffer);
+    count(decision);
+    if (!"dropped".equals(decision)) {
+      export(spans);
+    }
+    return false;
+  }
+
+  private void buffer(long localRootId, TraceContext context, MutableSpan span) {
+    TraceBuffer buffer = buffers.get(localRootId);
+    if (buffer == null) {
+      // 만료된 버퍼는 evictor 가 비우므로 여기서는 훑지 않는다
+      if (buffers.size() >= maxTraces) {
+        count("overflow");
+        return;
+      }
+      buffer = buffers.computeIfAbsent(localRootId, id -> new TraceBuffer());
+    }
+    buffer.add(new BufferedSpan(context, span), maxSpansPerTrace);
+  }
+
+  private String decide(MutableSpan root, TraceBuffer buffer) {
+    if (isError(root) || (buffer != null && buffer.error)) {
+      return "error";
+    }
+    if (root.finishTimestamp() - root.startTimestamp() >= latencyThresholdMicros) {
+      return "latency";
+    }
+    if (ThreadLocalRandom.current().nextDouble() < baselineRatio) {
+      return "baseline";
+    }
+    return "dropped";
+  }
+
+  private void export(List<BufferedSpan> spans) {
+    SpanHandler handler = exporter();
+    if (handler == null) {
+      return;
+    }
+    for (BufferedSpan buffered : spans) {
+      TraceContext sampled = buffered.context.toBuilder().sampled(true).build();
+      handler.end(sampled, buffered.span, Cause.FINISHED);
+    }
+  }
+
+  // Zipkin 핸들러는 Tracing 이 만들어질 때 함께 만들어지므로 처음 내보낼 때 찾는다
+  private SpanHandler exporter() {
+    if (exporter == null) {
+      exporter = spanHandlers.orderedStream()
+          .filter(ZipkinSpanHandler.class::isInstance)
+          .findFirst()
+          .orElse(null);
+      if (exporter == null) {
+        log.warn("Zipkin SpanHandler 가 없어 tail 샘플링된 트레이스를 내보낼 수 없습니다.");
+      }
+    }
+    return exporter;
+  }
+
+  void evictExpired() {
+    long now = System.nanoTime();
+    buffers.values().removeIf(buffer -> {
+      boolean expired = now - buffer.createdAt >= bufferTimeoutNanos;
+      if (expired) {
+        count("expired");
+      }
+      return expired;
+    });
+  }
+
+  private void count(String decision) {
+    Counter.builder("tracing.tail-sampling.traces")
+        .tag("decision", decision)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private static boolean isError(MutableSpan span) {
+    return span.error() != null || span.tag("error") != null;
+  }
+
+  private static class TraceBuffer {
+
+    private final long createdAt = System.nanoTime();
+    private final List<BufferedSpan> spans = new ArrayList<>();
+    private volatile boolean error;
+
+    private synchronized void add(BufferedSpan span, int maxSpans) {
+      if (isError(span.span)) {
+        error = true;
+      }
+      if (spans.size() < maxSpans) {
+        spans.add(span);
+      }
+    }
+
+    private synchronized List<BufferedSpan> drain() {
+      return new ArrayList<>(spans);
+    }
+  }
+
+  private static class BufferedSpan {
+
+    private final TraceContext context;
+    private final MutableSpan span;
+
+    private BufferedSpan(TraceContext context, MutableSpan span) {
+      this.context = context;
+      this.span = span;
+    }
+  }
+}
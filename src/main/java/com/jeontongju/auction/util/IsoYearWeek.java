@@ -0,0 +1,19 @@
+package com.jeontongju.auction.util;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+/**
+ * ISO 연-주차 값 (예: 2026년 42주차 → 202642)
+ *
+ * <p>주차 기준 연도를 함께 담아 다른 해의 같은 주차와 구분한다. MySQL 의 {@code YEARWEEK(date, 3)} 과 같은 값이다.
+ */
+public final class IsoYearWeek {
+
+  private IsoYearWeek() {
+  }
+
+  public static int of(LocalDate date) {
+    return date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+  }
+}
@@ -0,0 +1,58 @@
+package com.jeontongju.auction.util;
+
+import com.jeontongju.auction.exception.InvalidCursorException;
+import com.jeontongju.auction.exception.InvalidPageSizeException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * keyset 페이지네이션 커서 (정렬 시각, 식별자)
+ *
+ * <p>클라이언트에는 base64url 로 인코딩된 불투명 문자열로 내려준다.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class KeysetCursor {
+
+  private static final String DELIMITER = "|";
+  public static final int MAX_SIZE = 100;
+
+  private final LocalDateTime sortedAt;
+  private final String id;
+
+  public String encode() {
+    String raw = sortedAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int index = raw.indexOf(DELIMITER);
+      if (index < 0) {
+        throw new InvalidCursorException();
+      }
+      return new KeysetCursor(LocalDateTime.parse(raw.substring(0, index)),
+          raw.substring(index + 1));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  // size + 1 개를 조회하므로 0 이하나 과도한 크기는 쿼리 전에 거절한다
+  public static int checkSize(int size) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new InvalidPageSizeException();
+    }
+    return size;
+  }
+}
@@ -0,0 +1,61 @@
+package com.jeontongju.auction.util;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * 시간순으로 정렬되는 UUID (version 7)
+ *
+ * <p>상위 48비트가 밀리초 타임스탬프라서 새 키는 항상 인덱스의 끝에 추가된다.
+ * 같은 밀리초 안에서는 12비트 시퀀스를 올려 생성 순서대로 정렬되도록 한다.
+ */
+public final class TimeOrderedUuid {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final int MAX_SEQUENCE = 0xFFF;
+
+  private static long lastTimestamp = -1L;
+  private static int sequence;
+
+  private TimeOrderedUuid() {
+  }
+
+  public static UUID generate() {
+    return generate(System.currentTimeMillis());
+  }
+
+  static synchronized UUID generate(long now) {
+    long timestamp = Math.max(now, lastTimestamp);
+
+    if (timestamp == lastTimestamp) {
+      sequence++;
+      // 한 밀리초에 4096개를 넘기면 다음 밀리초를 미리 사용한다
+      if (sequence > MAX_SEQUENCE) {
+        timestamp++;
+        sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+      }
+    } else {
+      sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+    }
+    lastTimestamp = timestamp;
+
+    long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+    long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  public static byte[] toBytes(String uuid) {
+    UUID value = UUID.fromString(uuid);
+    return ByteBuffer.allocate(16)
+        .putLong(value.getMostSignificantBits())
+        .putLong(value.getLeastSignificantBits())
+        .array();
+  }
+
+  public static String fromBytes(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong()).toString();
+  }
+}
@@ -0,0 +1,20 @@
+-- 경매 참여 자리 카운터와 (auction_id, seller_id) 유니크 제약 추가 (MySQL 8)
+-- 배포 전 점검 시간에 한 번 실행한다.
+
+-- 1. 승인된 참여 셀러 수 카운터
+ALTER TABLE auction ADD COLUMN reserved_slots INT NOT NULL DEFAULT 0;
+
+UPDATE auction a
+SET a.reserved_slots = (SELECT COUNT(*) FROM auction_product p
+                        WHERE p.auction_id = a.auction_id AND p.status = 'ALLOW');
+
+-- 2. 같은 셀러의 중복 상품 정리: 거절되지 않은 상품이 있으면 거절된 상품을, 거절된 상품끼리는 최신 하나만 남긴다
+DELETE p FROM auction_product p
+JOIN auction_product other
+  ON other.auction_id = p.auction_id AND other.seller_id = p.seller_id
+ AND other.auction_product_id <> p.auction_product_id
+WHERE p.status = 'DENY'
+  AND (other.status <> 'DENY' OR other.created_at > p.created_at);
+
+-- 3. 경매당 셀러 한 명은 상품 하나
+ALTER TABLE auction_product ADD CONSTRAINT uk_auction_seller UNIQUE (auction_id, seller_id);
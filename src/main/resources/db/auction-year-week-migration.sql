@@ -0,0 +1,9 @@
+-- auction.year_week 컬럼 추가 (MySQL 8)
+-- 같은 주차 경매 검사를 WEEK(start_date) 전체 스캔 대신 인덱스 조회로 처리한다.
+-- YEARWEEK(date, 3) 은 ISO 기준(월요일 시작, 주차 기준 연도 포함)이라 애플리케이션의 IsoYearWeek 와 같은 값이다.
+
+ALTER TABLE auction ADD COLUMN year_week INT;
+
+UPDATE auction SET year_week = YEARWEEK(start_date, 3);
+
+CREATE INDEX idx_auction_year_week ON auction (year_week, is_deleted);
@@ -0,0 +1,5 @@
+-- 입찰 내역 내보내기 인덱스 (MySQL 8)
+-- 경매별은 (auction_id, created_at), 기간별은 created_at 순서로 읽어 정렬 없이 스트리밍한다.
+
+CREATE INDEX idx_bid_auction_created ON bid_info (auction_id, created_at);
+CREATE INDEX idx_bid_created ON bid_info (created_at);
@@ -0,0 +1,110 @@
+-- 경매 / 경매 상품 id 를 CHAR(36) 에서 BINARY(16) 으로 변환 (MySQL 8)
+-- 기존 랜덤 UUID 값은 그대로 16바이트로 옮기고, 이후 발급되는 id 만 시간순 UUID 가 된다.
+-- 배포 전 점검 시간에 한 번 실행한다.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+-- 1. 외래키 제거 (Hibernate 가 생성한 이름을 조회해서 제거)
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'auction_product'
+              AND COLUMN_NAME = 'auction_id' AND REFERENCED_TABLE_NAME IS NOT NULL LIMIT 1);
+SET @stmt := IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE auction_product DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @stmt; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'bid_info'
+              AND COLUMN_NAME = 'auction_id' AND REFERENCED_TABLE_NAME IS NOT NULL LIMIT 1);
+SET @stmt := IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE bid_info DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @stmt; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'bid_info'
+              AND COLUMN_NAME = 'auction_product_id' AND REFERENCED_TABLE_NAME IS NOT NULL LIMIT 1);
+SET @stmt := IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE bid_info DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @stmt; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 2. 새 컬럼 추가 후 값 변환
+ALTER TABLE auction ADD COLUMN auction_id_bin BINARY(16);
+UPDATE auction SET auction_id_bin = UUID_TO_BIN(auction_id);
+
+ALTER TABLE auction_product
+    ADD COLUMN auction_product_id_bin BINARY(16),
+    ADD COLUMN auction_id_bin BINARY(16);
+UPDATE auction_product
+SET auction_product_id_bin = UUID_TO_BIN(auction_product_id),
+    auction_id_bin         = UUID_TO_BIN(auction_id);
+
+ALTER TABLE bid_info
+    ADD COLUMN auction_product_id_bin BINARY(16),
+    ADD COLUMN auction_id_bin BINARY(16);
+UPDATE bid_info
+SET auction_product_id_bin = UUID_TO_BIN(auction_product_id),
+    auction_id_bin         = UUID_TO_BIN(auction_id);
+
+ALTER TABLE auction_product_result
+    ADD COLUMN auction_product_id_bin BINARY(16),
+    ADD COLUMN auction_id_bin BINARY(16);
+UPDATE auction_product_result
+SET auction_product_id_bin = UUID_TO_BIN(auction_product_id),
+    auction_id_bin         = UUID_TO_BIN(auction_id);
+
+-- 3. 기존 컬럼을 포함한 인덱스 / 컬럼 제거 후 이름 변경
+ALTER TABLE bid_info
+    DROP INDEX idx_consumer_product_price,
+    DROP INDEX idx_product_is_bid,
+    DROP COLUMN auction_product_id,
+    DROP COLUMN auction_id,
+    RENAME COLUMN auction_product_id_bin TO auction_product_id,
+    RENAME COLUMN auction_id_bin TO auction_id;
+
+ALTER TABLE auction_product_result
+    DROP INDEX idx_result_auction_id,
+    DROP PRIMARY KEY,
+    DROP COLUMN auction_product_id,
+    DROP COLUMN auction_id,
+    RENAME COLUMN auction_product_id_bin TO auction_product_id,
+    RENAME COLUMN auction_id_bin TO auction_id;
+
+ALTER TABLE auction_product
+    DROP PRIMARY KEY,
+    DROP COLUMN auction_product_id,
+    DROP COLUMN auction_id,
+    RENAME COLUMN auction_product_id_bin TO auction_product_id,
+    RENAME COLUMN auction_id_bin TO auction_id;
+
+ALTER TABLE auction
+    DROP PRIMARY KEY,
+    DROP COLUMN auction_id,
+    RENAME COLUMN auction_id_bin TO auction_id;
+
+-- 4. 키 / 인덱스 / 외래키 재생성
+ALTER TABLE auction
+    MODIFY auction_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (auction_id);
+
+ALTER TABLE auction_product
+    MODIFY auction_product_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (auction_product_id),
+    ADD CONSTRAINT fk_auction_product_auction FOREIGN KEY (auction_id) REFERENCES auction (auction_id);
+
+ALTER TABLE bid_info
+    ADD INDEX idx_consumer_product_price (consumer_id, auction_product_id, bid_price, created_at),
+    ADD INDEX idx_product_is_bid (auction_product_id, is_bid),
+    ADD CONSTRAINT fk_bid_info_auction FOREIGN KEY (auction_id) REFERENCES auction (auction_id),
+    ADD CONSTRAINT fk_bid_info_auction_product
+        FOREIGN KEY (auction_product_id) REFERENCES auction_product (auction_product_id);
+
+ALTER TABLE auction_product_result
+    MODIFY auction_product_id BINARY(16) NOT NULL,
+    MODIFY auction_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (auction_product_id),
+    ADD INDEX idx_result_auction_id (auction_id);
+
+SET FOREIGN_KEY_CHECKS = 1;
+
+-- 5. 인덱스 크기 확인 (변환 전후 비교용)
+ANALYZE TABLE auction, auction_product, bid_info, auction_product_result;
+SELECT TABLE_NAME, DATA_LENGTH, INDEX_LENGTH
+FROM information_schema.TABLES
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME IN ('auction', 'auction_product', 'bid_info', 'auction_product_result');
@@ -0,0 +1,8 @@
+-- 관리자 경매 목록 / 셀러 출품 내역 keyset 페이지네이션 인덱스 (MySQL 8)
+-- (필터, created_at, id) 순서로 두어 커서 이후 행을 정렬 없이 인덱스 순서대로 읽는다.
+
+CREATE INDEX idx_auction_deleted_created ON auction (is_deleted, created_at, auction_id);
+
+-- seller_id 단일 인덱스는 새 인덱스의 앞부분과 같으므로 교체한다
+CREATE INDEX idx_seller_created ON auction_product (seller_id, created_at, auction_product_id);
+DROP INDEX idx_seller_id ON auction_product;
@@ -0,0 +1,49 @@
+package com.jeontongju.auction.actuator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jeontongju.auction.actuator.FlightRecordingEndpoint.RecordingStatus;
+import com.jeontongju.auction.jfr.BidEvent;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlightRecordingEndpointTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("요청한 기간은 상한으로 제한하고, 중지하면 입찰 이벤트가 담긴 파일을 남긴다")
+  void startAndStop() throws Exception {
+    FlightRecordingEndpoint endpoint =
+        new FlightRecordingEndpoint(directory.toString(), "default", 60, 16);
+
+    RecordingStatus started = endpoint.start(3600L, null);
+    assertEquals(started.getState(), "RUNNING");
+    assertEquals(started.getDuration(), Duration.ofSeconds(60));
+    assertEquals(started.getMaxSize(), 16L * 1024 * 1024);
+
+    BidEvent event = BidEvent.begin("auction-1", 1L, 10000L);
+    event.accept("product-1");
+    event.commit();
+
+    RecordingStatus stopped = endpoint.stop();
+    assertEquals(stopped.getState(), "CLOSED");
+
+    List<RecordedEvent> bids = RecordingFile.readAllEvents(Paths.get(stopped.getDestination()))
+        .stream()
+        .filter(recorded -> recorded.getEventType().getName().equals("com.jeontongju.auction.Bid"))
+        .collect(Collectors.toList());
+    assertEquals(bids.size(), 1);
+    assertEquals(bids.get(0).getString("auctionProductId"), "product-1");
+    assertEquals(bids.get(0).getLong("bidPrice"), 10000L);
+  }
+}
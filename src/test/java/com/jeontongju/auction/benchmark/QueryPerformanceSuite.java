@@ -0,0 +1,297 @@
+package com.jeontongju.auction.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jeontongju.auction.dto.response.AdminAuctionResponseDto;
+import com.jeontongju.auction.dto.response.ConsumerAuctionBidResponseDto;
+import com.jeontongju.auction.dto.response.SellerAuctionEntriesResponseDto;
+import com.jeontongju.auction.enums.AuctionProductStatusEnum;
+import com.jeontongju.auction.repository.AuctionProductRepository;
+import com.jeontongju.auction.repository.AuctionRepository;
+import com.jeontongju.auction.repository.BidInfoRepository;
+import com.jeontongju.auction.util.DatasetGenerator;
+import com.jeontongju.auction.util.DatasetGenerator.Dataset;
+import com.jeontongju.auction.util.DatasetGenerator.Scale;
+import com.jeontongju.auction.util.KeysetCursor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저장소 쿼리 성능 회귀 테스트
+ *
+ * <p>DatasetGenerator 로 운영 규모(경매 수천 건, 상품 수십만 건, 입찰 천만 건 이상)의 데이터를
+ * MySQL 호환 모드 H2 에 넣고, AuctionCustomRepository / AuctionRepository / AuctionProductRepository /
+ * BidInfoRepository 의 모든 쿼리에 대해 응답 시간 중앙값과 실행 쿼리 수를 검증한다.
+ * 데이터 생성에 오래 걸리므로 PERF_SUITE=true 일 때만 실행하고, 테스트 JVM 힙에 담기지 않는 규모라
+ * 기본으로는 build/perf 아래 파일 DB 를 사용한다. (PERF_JDBC_URL 로 변경)
+ * <pre>
+ * PERF_SUITE=true ./gradlew test --tests '*QueryPerformanceSuite'
+ * PERF_SUITE=true PERF_AUCTIONS=200 PERF_BIDS_PER_PRODUCT=10 ./gradlew test --tests '*QueryPerformanceSuite'
+ * </pre>
+ * 기준 시간은 기본 규모 기준이며, 느린 장비에서는 PERF_THRESHOLD_FACTOR 로 일괄 조정한다.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+    "spring.datasource.url=${PERF_JDBC_URL:jdbc:h2:file:./build/perf/auction;MODE=MySQL}",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("prod")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "PERF_SUITE", matches = "true")
+class QueryPerformanceSuite {
+
+  private static final int ITERATIONS = Integer.parseInt(
+      System.getenv().getOrDefault("PERF_ITERATIONS", "5"));
+  private static final double THRESHOLD_FACTOR = Double.parseDouble(
+      System.getenv().getOrDefault("PERF_THRESHOLD_FACTOR", "1.0"));
+  private static final int PAGE_SIZE = 10;
+
+  @Autowired
+  private AuctionRepository auctionRepository;
+
+  @Autowired
+  private AuctionProductRepository auctionProductRepository;
+
+  @Autowired
+  private BidInfoRepository bidInfoRepository;
+
+  @Autowired
+  private DatasetGenerator datasetGenerator;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private Dataset dataset;
+  private Statistics statistics;
+  private Cache cache;
+  private TransactionTemplate readOnly;
+  private TransactionTemplate rollback;
+
+  private KeysetCursor adminCursor;
+  private KeysetCursor entriesCursor;
+  private KeysetCursor consumerBidCursor;
+
+  @BeforeAll
+  void before() {
+    dataset = datasetGenerator.generate(Scale.fromEnv());
+
+    SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    statistics = sessionFactory.getStatistics();
+    cache = sessionFactory.getCache();
+
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    rollback = new TransactionTemplate(transactionManager);
+
+    // 두 번째 페이지 조회용 커서 - 첫 페이지의 마지막 행
+    AdminAuctionResponseDto adminLast = last(
+        auctionRepository.findAdminAuctionAfter(null, PAGE_SIZE));
+    adminCursor = KeysetCursor.of(adminLast.getCreatedAt(), adminLast.getAuctionId());
+
+    SellerAuctionEntriesResponseDto entriesLast = last(
+        auctionRepository.findAuctionEntriesAfter(dataset.getSellerId(), null, PAGE_SIZE));
+    entriesCursor = KeysetCursor.of(entriesLast.getCreatedAt(), entriesLast.getAuctionProductId());
+
+    ConsumerAuctionBidResponseDto consumerBidLast = last(
+        auctionRepository.findConsumerBidInfoAfter(dataset.getConsumerId(), null, PAGE_SIZE));
+    consumerBidCursor = KeysetCursor.of(
+        consumerBidLast.getLastBidAt(), consumerBidLast.getProductId());
+  }
+
+  @TestFactory
+  @DisplayName("AuctionCustomRepository 쿼리 응답 시간 / 쿼리 수")
+  Stream<DynamicTest> auctionCustomRepository() {
+    String upcomingAuctionId = dataset.getUpcomingAuctionId();
+    String pastAuctionId = dataset.getPastAuctionId();
+    Long sellerId = dataset.getSellerId();
+    Long consumerId = dataset.getConsumerId();
+
+    return Stream.of(
+        query("findRegistrableAuction", 100, 1,
+            () -> auctionRepository.findRegistrableAuction()),
+        query("findThisAuction", 50, 1,
+            () -> auctionRepository.findThisAuction()),
+        query("findDateOfWeek", 50, 1,
+            () -> auctionRepository.findDateOfWeek(
+                dataset.getPastAuctionStartDate().toLocalDate())),
+        query("countByAuctionProductIsWait", 500, 1,
+            () -> auctionRepository.countByAuctionProductIsWait()),
+        query("findThisAuctionRecent", 50, 1,
+            () -> auctionRepository.findThisAuctionRecent()),
+        query("findRegistrableAuctionRecent", 100, 1,
+            () -> auctionRepository.findRegistrableAuctionRecent()),
+        query("findConsumerBidInfo", 1000, 1,
+            () -> auctionRepository.findConsumerBidInfo(
+                consumerId, PageRequest.of(0, PAGE_SIZE))),
+        query("findConsumerBidInfoAfter", 1000, 1,
+            () -> auctionRepository.findConsumerBidInfoAfter(
+                consumerId, consumerBidCursor, PAGE_SIZE)),
+        query("countConsumerBidInfo", 200, 1,
+            () -> auctionRepository.countConsumerBidInfo(consumerId)),
+        query("findAuctionResponse", 50, 1,
+            () -> auctionRepository.findAuctionResponse(pastAuctionId)),
+        query("findThisAuctionResponseRecent", 50, 1,
+            () -> auctionRepository.findThisAuctionResponseRecent()),
+        query("findAuctionProductResponse", 200, 1,
+            () -> auctionRepository.findAuctionProductResponse(pastAuctionId)),
+        query("findAuctionProductBidStat", 500, 1,
+            () -> auctionRepository.findAuctionProductBidStat(dataset.getPastProductIds())),
+        query("findAuctionProductIdWithoutResult", 2000, 1,
+            () -> auctionRepository.findAuctionProductIdWithoutResult(100)),
+        query("findAdminAuction", 1000, 2,
+            () -> auctionRepository.findAdminAuction(PageRequest.of(0, PAGE_SIZE))),
+        query("findAdminAuctionAfter", 500, 1,
+            () -> auctionRepository.findAdminAuctionAfter(adminCursor, PAGE_SIZE)),
+        query("countAdminAuction", 200, 1,
+            () -> auctionRepository.countAdminAuction()),
+        query("streamBidExport", 1000, 1,
+            () -> readOnly.execute(status -> {
+              try (Stream<?> rows = auctionRepository.streamBidExport(pastAuctionId,
+                  dataset.getPastAuctionStartDate(), dataset.getPastAuctionStartDate().plusDays(1),
+                  1000)) {
+                return rows.count();
+              }
+            })),
+        query("findAuctionEntries", 500, 2,
+            () -> auctionRepository.findAuctionEntries(sellerId, PageRequest.of(0, PAGE_SIZE))),
+        query("findAuctionEntriesAfter", 500, 1,
+            () -> auctionRepository.findAuctionEntriesAfter(sellerId, entriesCursor, PAGE_SIZE)),
+        query("findAuctionProductStatusForUpdate", 100, 1,
+            inRollback(() -> auctionRepository.findAuctionProductStatusForUpdate(
+                dataset.getUpcomingProductIds()))),
+        query("reserveSlot", 50, 1,
+            inRollback(() -> auctionRepository.reserveSlot(upcomingAuctionId, 1000))),
+        query("releaseSlot", 50, 1,
+            inRollback(() -> auctionRepository.releaseSlot(upcomingAuctionId))),
+        query("findReservedSlotsForUpdate", 50, 1,
+            inRollback(() -> auctionRepository.findReservedSlotsForUpdate(upcomingAuctionId))),
+        query("updateReservedSlots", 50, 1,
+            inRollback(() -> auctionRepository.updateReservedSlots(upcomingAuctionId, 0))),
+        query("updateAuctionProductStatus", 200, 1,
+            inRollback(() -> auctionRepository.updateAuctionProductStatus(
+                dataset.getUpcomingProductIds(), AuctionProductStatusEnum.DENY)))
+    ).map(QueryCase::toDynamicTest);
+  }
+
+  @TestFactory
+  @DisplayName("AuctionRepository / AuctionProductRepository / BidInfoRepository 쿼리 응답 시간 / 쿼리 수")
+  Stream<DynamicTest> derivedQueries() {
+    Long sellerId = dataset.getSellerId();
+    Long consumerId = dataset.getConsumerId();
+
+    return Stream.of(
+        query("AuctionRepository.findByTitle", 100, 1,
+            () -> auctionRepository.findByTitle("제 1회 전통주 경매")),
+        query("AuctionRepository.findAllByIsDeletedIsFalse", 200, 2,
+            () -> auctionRepository.findAllByIsDeletedIsFalse(
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")))),
+        query("AuctionProductRepository.findAuctionProductBySellerId", 200, 2,
+            () -> auctionProductRepository.findAuctionProductBySellerId(sellerId,
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")))),
+        query("AuctionProductRepository.countBySellerId", 100, 1,
+            () -> auctionProductRepository.countBySellerId(sellerId)),
+        query("AuctionProductRepository.findByName", 500, 1,
+            () -> auctionProductRepository.findByName("전통주 0-0")),
+        query("AuctionProductRepository.findByAuctionAuctionIdAndSellerId", 50, 1,
+            () -> auctionProductRepository.findByAuctionAuctionIdAndSellerId(
+                dataset.getUpcomingAuctionId(), sellerId)),
+        query("BidInfoRepository.findByConsumerId", 1000, 1,
+            () -> bidInfoRepository.findByConsumerId(consumerId)),
+        query("BidInfoRepository.findAllByIsBidTrue", 10000, 1,
+            () -> bidInfoRepository.findAllByIsBidTrue())
+    ).map(QueryCase::toDynamicTest);
+  }
+
+  private QueryCase query(String name, long thresholdMillis, long statements, Runnable query) {
+    return new QueryCase(name, thresholdMillis, statements, query);
+  }
+
+  // 쓰기 쿼리는 데이터가 바뀌지 않도록 롤백한다
+  private Runnable inRollback(Runnable query) {
+    return () -> rollback.executeWithoutResult(status -> {
+      query.run();
+      status.setRollbackOnly();
+    });
+  }
+
+  private <T> T last(List<T> list) {
+    return list.get(list.size() - 1);
+  }
+
+  private class QueryCase {
+
+    private final String name;
+    private final long thresholdMillis;
+    private final long statements;
+    private final Runnable query;
+
+    private QueryCase(String name, long thresholdMillis, long statements, Runnable query) {
+      this.name = name;
+      this.thresholdMillis = thresholdMillis;
+      this.statements = statements;
+      this.query = query;
+    }
+
+    private DynamicTest toDynamicTest() {
+      return DynamicTest.dynamicTest(name, this::verify);
+    }
+
+    // 첫 실행은 워밍업 겸 쿼리 수 측정, 이후 2차 캐시를 비운 상태로 반복해 중앙값을 잰다
+    private void verify() {
+      cache.evictAllRegions();
+      statistics.clear();
+      query.run();
+      long executed = statistics.getPrepareStatementCount();
+
+      long[] elapsedMillis = new long[ITERATIONS];
+      for (int i = 0; i < ITERATIONS; i++) {
+        cache.evictAllRegions();
+        long startedAt = System.nanoTime();
+        query.run();
+        elapsedMillis[i] = (System.nanoTime() - startedAt) / 1_000_000;
+      }
+      Arrays.sort(elapsedMillis);
+      long median = elapsedMillis[ITERATIONS / 2];
+      long threshold = (long) (thresholdMillis * THRESHOLD_FACTOR);
+
+      log.info("{} - median {} ms (max {} ms, threshold {} ms), statements {}",
+          name, median, elapsedMillis[ITERATIONS - 1], threshold, executed);
+
+      assertEquals(executed, statements, name + " 실행 쿼리 수");
+      assertTrue(median <= threshold,
+          name + " 응답 시간 " + median + " ms 가 기준 " + threshold + " ms 를 넘었습니다.");
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.jeontongju.auction.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jeontongju.auction.util.TimeOrderedUuid;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 랜덤 CHAR(36) 키와 시간순 BINARY(16) 키의 삽입 처리량 / 인덱스 크기 비교
+ *
+ * <p>InnoDB 에서만 의미가 있으므로 BENCHMARK_JDBC_URL 로 MySQL 을 지정했을 때만 실행한다.
+ * <pre>
+ * BENCHMARK_JDBC_URL="jdbc:mysql://localhost:3306/bench?user=root&password=...&rewriteBatchedStatements=true" \
+ *   ./gradlew test --tests '*UuidKeyInsertBenchmark'
+ * </pre>
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_JDBC_URL", matches = ".+")
+class UuidKeyInsertBenchmark {
+
+  private static final int ROWS = Integer.parseInt(
+      System.getenv().getOrDefault("BENCHMARK_ROWS", "200000"));
+  private static final int BATCH_SIZE = 1000;
+  private static final int PRODUCTS = 1000;
+
+  @Test
+  @DisplayName("랜덤 CHAR(36) 키 vs 시간순 BINARY(16) 키")
+  void compareKeyLayouts() throws SQLException {
+    try (Connection connection = DriverManager.getConnection(System.getenv("BENCHMARK_JDBC_URL"))) {
+      connection.setAutoCommit(false);
+
+      Result random = run(connection, "bench_uuid_char36", "CHAR(36)", false);
+      Result ordered = run(connection, "bench_uuid_binary16", "BINARY(16)", true);
+
+      log.info("CHAR(36) v4   : {} rows/s, data {} KB, index {} KB",
+          random.rowsPerSecond(), random.dataLength / 1024, random.indexLength / 1024);
+      log.info("BINARY(16) v7 : {} rows/s, data {} KB, index {} KB",
+          ordered.rowsPerSecond(), ordered.dataLength / 1024, ordered.indexLength / 1024);
+    }
+  }
+
+  // bid_info 와 같은 모양 - 경매 상품 id 를 PK, 보조 인덱스에 함께 가지는 테이블
+  private Result run(Connection connection, String table, String keyType, boolean timeOrdered)
+      throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + table);
+      statement.execute("CREATE TABLE " + table + " ("
+          + "id " + keyType + " NOT NULL PRIMARY KEY, "
+          + "auction_product_id " + keyType + " NOT NULL, "
+          + "consumer_id BIGINT NOT NULL, "
+          + "bid_price BIGINT NOT NULL, "
+          + "INDEX idx_" + table + " (consumer_id, auction_product_id, bid_price)"
+          + ") ENGINE = InnoDB");
+    }
+    connection.commit();
+
+    Object[] productIds = new Object[PRODUCTS];
+    for (int i = 0; i < PRODUCTS; i++) {
+      productIds[i] = key(timeOrdered);
+    }
+
+    long startedAt = System.nanoTime();
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO " + table + " (id, auction_product_id, consumer_id, bid_price) "
+            + "VALUES (?, ?, ?, ?)")) {
+      for (int i = 1; i <= ROWS; i++) {
+        insert.setObject(1, key(timeOrdered));
+        insert.setObject(2, productIds[i % PRODUCTS]);
+        insert.setLong(3, i % 5000);
+        insert.setLong(4, i);
+        insert.addBatch();
+
+        if (i % BATCH_SIZE == 0) {
+          insert.executeBatch();
+          connection.commit();
+        }
+      }
+      insert.executeBatch();
+      connection.commit();
+    }
+    long elapsedNanos = System.nanoTime() - startedAt;
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE TABLE " + table);
+
+      try (ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+        count.next();
+        assertEquals(count.getLong(1), (long) ROWS);
+      }
+
+      try (ResultSet size = statement.executeQuery(
+          "SELECT DATA_LENGTH, INDEX_LENGTH FROM information_schema.TABLES "
+              + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table + "'")) {
+        size.next();
+        Result result = new Result(elapsedNanos, size.getLong(1), size.getLong(2));
+        statement.execute("DROP TABLE " + table);
+        return result;
+      }
+    }
+  }
+
+  private Object key(boolean timeOrdered) {
+    return timeOrdered
+        ? TimeOrderedUuid.toBytes(TimeOrderedUuid.generate().toString())
+        : UUID.randomUUID().toString();
+  }
+
+  private static class Result {
+
+    private final long elapsedNanos;
+    private final long dataLength;
+    private final long indexLength;
+
+    private Result(long elapsedNanos, long dataLength, long indexLength) {
+      this.elapsedNanos = elapsedNanos;
+      this.dataLength = dataLength;
+      this.indexLength = indexLength;
+    }
+
+    private long rowsPerSecond() {
+      return ROWS * 1_000_000_000L / Math.max(elapsedNanos, 1);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.jeontongju.auction.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jeontongju.auction.client.cache.FeignResponseCache;
+import com.jeontongju.auction.util.LocalConsumerService;
+import io.github.bitbox.bitbox.dto.MemberDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ConsumerInfoLoaderTest {
+
+  private static final int CONCURRENCY = 20;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+  private final ExecutorService feignCallExecutor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+    feignCallExecutor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("같은 소비자 동시 조회 - 한 번만 호출")
+  void singleFlight() {
+    LocalConsumerService consumerService = new LocalConsumerService(200L);
+    ConsumerInfoLoader loader = new ConsumerInfoLoader(consumerService, cache(), false, 10L, 100);
+
+    List<MemberDto> result = loadConcurrently(loader, id -> 1L);
+
+    assertEquals(1, consumerService.getSingleCalls());
+    result.forEach(memberDto -> assertEquals(1L, memberDto.getMemberId()));
+  }
+
+  @Test
+  @DisplayName("서로 다른 소비자 동시 조회 - 윈도우 내 요청은 벌크 한 번으로 호출")
+  void batch() {
+    LocalConsumerService consumerService = new LocalConsumerService(10L);
+    ConsumerInfoLoader loader = new ConsumerInfoLoader(consumerService, cache(), true, 200L, 100);
+
+    List<MemberDto> result = loadConcurrently(loader, id -> id);
+
+    assertEquals(0, consumerService.getSingleCalls());
+    assertEquals(1, consumerService.getBulkCalls());
+    assertEquals(CONCURRENCY, result.stream().map(MemberDto::getMemberId).distinct().count());
+    loader.shutdown();
+  }
+
+  private FeignResponseCache<Long, MemberDto> cache() {
+    return new FeignResponseCache<>("consumer-service", feignCallExecutor, Duration.ofSeconds(1),
+        Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+  }
+
+  private List<MemberDto> loadConcurrently(ConsumerInfoLoader loader,
+      java.util.function.LongUnaryOperator consumerIdOf) {
+    CountDownLatch ready = new CountDownLatch(1);
+    List<CompletableFuture<MemberDto>> futures = new ArrayList<>();
+
+    for (long i = 1; i <= CONCURRENCY; i++) {
+      long consumerId = consumerIdOf.applyAsLong(i);
+      futures.add(CompletableFuture.supplyAsync(() -> {
+        awaitQuietly(ready);
+        return loader.load(consumerId);
+      }, executor));
+    }
+
+    ready.countDown();
+    return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.jeontongju.auction.client.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeignResponseCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("캐시에 값이 없으면 호출 결과를 반환하고 보관한다")
+  void miss() {
+    FeignResponseCache<Long, String> cache = cache(Duration.ofMinutes(1));
+    AtomicInteger calls = new AtomicInteger();
+
+    assertEquals(cache.get(1L, id -> "credit-" + calls.incrementAndGet()), "credit-1");
+    // 캐시 갱신은 호출 완료 콜백에서 일어난다
+    sleep(50);
+    assertEquals(cache.getStale(1L).orElseThrow(), "credit-1");
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  @DisplayName("캐시에 값이 있어도 호출이 예산 안에 성공하면 새 값을 반환한다")
+  void hit() {
+    FeignResponseCache<Long, String> cache = cache(Duration.ofMinutes(1));
+    cache.put(1L, "old");
+
+    assertEquals(cache.get(1L, id -> "new"), "new");
+    assertEquals(staleServed("error") + staleServed("timeout"), 0.0);
+  }
+
+  @Test
+  @DisplayName("호출이 실패하거나 예산을 넘기면 마지막 정상값을 반환한다")
+  void fallbackOnFailure() {
+    FeignResponseCache<Long, String> cache = cache(Duration.ofMinutes(1));
+    cache.put(1L, "last-known-good");
+
+    assertEquals(cache.get(1L, id -> {
+      throw new IllegalStateException("consumer-service down");
+    }), "last-known-good");
+    assertEquals(cache.get(1L, id -> {
+      sleep(500);
+      return "late";
+    }), "last-known-good");
+    assertEquals(staleServed("error"), 1.0);
+    assertEquals(staleServed("timeout"), 1.0);
+  }
+
+  @Test
+  @DisplayName("executor 가 작업을 거절하면 호출 스레드에서 실행하지 않고 마지막 정상값을 반환한다")
+  void fallbackOnRejection() {
+    FeignResponseCache<Long, String> cache = new FeignResponseCache<>("consumer-service",
+        runnable -> {
+          throw new RejectedExecutionException();
+        },
+        Duration.ofMillis(100), Duration.ofMinutes(1), 100, meterRegistry);
+    cache.put(1L, "last-known-good");
+
+    assertEquals(cache.get(1L, id -> "called"), "last-known-good");
+    assertEquals(staleServed("rejected"), 1.0);
+    assertThrows(RejectedExecutionException.class, () -> cache.get(2L, id -> "called"));
+  }
+
+  @Test
+  @DisplayName("보관 기간이 지난 값은 호출이 실패해도 반환하지 않는다")
+  void expiry() {
+    FeignResponseCache<Long, String> cache = cache(Duration.ofMillis(50));
+    cache.put(1L, "expired");
+    sleep(100);
+
+    assertThrows(IllegalStateException.class, () -> cache.get(1L, id -> {
+      throw new IllegalStateException("consumer-service down");
+    }));
+    assertTrue(cache.getStale(1L).isEmpty());
+  }
+
+  private FeignResponseCache<Long, String> cache(Duration maxStaleness) {
+    return new FeignResponseCache<>("consumer-service", executor, Duration.ofMillis(100),
+        maxStaleness, 100, meterRegistry);
+  }
+
+  private double staleServed(String reason) {
+    return meterRegistry.get("feign.cache.stale.served").tag("reason", reason).counter().count();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
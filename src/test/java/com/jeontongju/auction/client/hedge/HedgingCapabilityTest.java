@@ -0,0 +1,144 @@
+package com.jeontongju.auction.client.hedge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import brave.Tracing;
+import com.jeontongju.auction.client.ConsumerServiceFeignClient;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+class HedgingCapabilityTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final DiscoveryClient discoveryClient = new DiscoveryClient() {
+    @Override
+    public String description() {
+      return "test";
+    }
+
+    @Override
+    public List<ServiceInstance> getInstances(String serviceId) {
+      return List.of(
+          new DefaultServiceInstance("slow", serviceId, "slow-host", 8080, false),
+          new DefaultServiceInstance("fast", serviceId, "fast-host", 8080, false)
+      );
+    }
+
+    @Override
+    public List<String> getServices() {
+      return List.of("consumer-service");
+    }
+  };
+
+  private final Client client = (request, options) -> {
+    String host = URI.create(request.url()).getHost();
+    if (host.equals("slow-host")) {
+      try {
+        Thread.sleep(1000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return Response.builder()
+        .status(200)
+        .request(request)
+        .headers(Collections.emptyMap())
+        .body(host, StandardCharsets.UTF_8)
+        .build();
+  };
+
+  @Test
+  @DisplayName("p95 안에 응답이 없으면 다른 인스턴스로 헤지하고 먼저 온 응답을 사용한다")
+  void hedge() throws Exception {
+    HedgingCapability capability = new HedgingCapability(discoveryClient, meterRegistry,
+        new StaticListableBeanFactory().getBeanProvider(Tracing.class),
+        true, 20, 10, 100, 0.1, 10);
+    Client hedgingClient = capability.enrich(client);
+
+    Request request = hedgedRequest();
+    for (int i = 0; i < 5; i++) {
+      long start = System.nanoTime();
+      Response response = hedgingClient.execute(request, new Request.Options());
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+      assertEquals("fast-host",
+          new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8));
+      assertTrue(elapsedMillis < 500);
+    }
+
+    double sent = meterRegistry.get("feign.hedging.sent").counter().count();
+    assertEquals(5.0, meterRegistry.get("feign.hedging.requests").counter().count());
+    assertEquals(sent, meterRegistry.get("feign.hedging.won").counter().count());
+    capability.shutdown();
+  }
+
+  @Test
+  @DisplayName("먼저 온 응답이 5xx 면 승자로 보지 않고 다른 시도의 정상 응답을 사용한다")
+  void ignoreFailedResponse() throws Exception {
+    Client failingClient = (request, options) -> {
+      String host = URI.create(request.url()).getHost();
+      boolean failing = host.equals("fast-host");
+      sleep(failing ? 50 : 200);
+      return Response.builder()
+          .status(failing ? 503 : 200)
+          .request(request)
+          .headers(Collections.emptyMap())
+          .body(host, StandardCharsets.UTF_8)
+          .build();
+    };
+    HedgingCapability capability = new HedgingCapability(discoveryClient, meterRegistry,
+        new StaticListableBeanFactory().getBeanProvider(Tracing.class),
+        true, 20, 10, 100, 0.1, 10);
+    Client hedgingClient = capability.enrich(failingClient);
+
+    for (int i = 0; i < 5; i++) {
+      Response response = hedgingClient.execute(hedgedRequest(), new Request.Options());
+
+      assertEquals(response.status(), 200);
+      assertEquals(new String(response.body().asInputStream().readAllBytes(),
+          StandardCharsets.UTF_8), "slow-host");
+    }
+    capability.shutdown();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Request hedgedRequest() {
+    MethodMetadata metadata = new SpringMvcContract()
+        .parseAndValidateMetadata(ConsumerServiceFeignClient.class)
+        .stream()
+        .filter(methodMetadata -> methodMetadata.method().getName().equals("getConsumerInfo"))
+        .findFirst()
+        .orElseThrow();
+
+    RequestTemplate template = new RequestTemplate();
+    template.methodMetadata(metadata);
+
+    return Request.create(HttpMethod.GET, "http://consumer-service/consumers/1/auction",
+        Collections.emptyMap(), null, StandardCharsets.UTF_8, template);
+  }
+}
@@ -0,0 +1,50 @@
+package com.jeontongju.auction.client.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("한도를 넘는 요청은 즉시 거절된다")
+  void rejectOverLimit() {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter("consumer-service", 2, 1, 10, 0.2, 1.5, meterRegistry);
+
+    assertTrue(limiter.tryAcquire() > 0);
+    assertTrue(limiter.tryAcquire() > 0);
+    assertEquals(-1, limiter.tryAcquire());
+    assertEquals(1.0, meterRegistry.get("feign.concurrency.rejected").counter().count());
+    assertEquals(2.0, meterRegistry.get("feign.concurrency.inflight").gauge().value());
+  }
+
+  @Test
+  @DisplayName("지연이 커지면 한도가 줄어든다")
+  void shrinkOnLatency() {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter("consumer-service", 20, 2, 200, 0.2, 1.5, meterRegistry);
+
+    for (int i = 0; i < 100; i++) {
+      int inFlight = limiter.tryAcquire();
+      limiter.onSuccess(limiter.getLimit(), TimeUnit.MILLISECONDS.toNanos(10));
+      assertTrue(inFlight > 0);
+    }
+    int healthyLimit = limiter.getLimit();
+
+    for (int i = 0; i < 100; i++) {
+      limiter.tryAcquire();
+      limiter.onSuccess(limiter.getLimit(), TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    assertTrue(limiter.getLimit() < healthyLimit);
+    assertEquals(limiter.getLimit(),
+        (int) meterRegistry.get("feign.concurrency.limit").gauge().value());
+  }
+}
@@ -0,0 +1,164 @@
+package com.jeontongju.auction.client.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jeontongju.auction.client.ConsumerServiceFeignClient;
+import com.jeontongju.auction.exception.ConcurrencyLimitExceededException;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target.HardCodedTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitingCapabilityTest {
+
+  private static final int CONCURRENCY = 8;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+  private final ConcurrencyLimitingCapability capability =
+      new ConcurrencyLimitingCapability(meterRegistry, 4, 1, 50, 0.2, 1.5);
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("동시 요청이 한도를 넘으면 대상 서비스를 호출하지 않고 즉시 거절한다")
+  void rejectConcurrentCallsOverLimit() throws Exception {
+    CountDownLatch entered = new CountDownLatch(4);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    Client blocking = (request, options) -> {
+      calls.incrementAndGet();
+      entered.countDown();
+      await(release);
+      return response(request, 200);
+    };
+    Client limited = capability.enrich(blocking);
+
+    List<CompletableFuture<Response>> inFlight = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      inFlight.add(CompletableFuture.supplyAsync(() -> call(limited), executor));
+    }
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+    List<CompletableFuture<Response>> overLimit = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      overLimit.add(CompletableFuture.supplyAsync(() -> call(limited), executor));
+    }
+    for (CompletableFuture<Response> future : overLimit) {
+      CompletionException e = assertThrows(CompletionException.class, future::join);
+      assertTrue(e.getCause() instanceof ConcurrencyLimitExceededException);
+    }
+
+    release.countDown();
+    inFlight.forEach(future -> assertEquals(future.join().status(), 200));
+    assertEquals(calls.get(), 4);
+    assertEquals(meterRegistry.get("feign.concurrency.rejected").counter().count(), 4.0);
+    assertEquals(capability.getLimiter("consumer-service").getInFlight(), 0);
+  }
+
+  @Test
+  @DisplayName("빠른 응답이 이어지면 한도를 늘리고, 503 이 이어지면 한도를 줄인다")
+  void adaptLimit() {
+    AtomicInteger status = new AtomicInteger(200);
+    Client fast = (request, options) -> {
+      sleep(2);
+      return response(request, status.get());
+    };
+    Client limited = capability.enrich(fast);
+    AdaptiveConcurrencyLimiter limiter = capability.getLimiter("consumer-service");
+
+    runConcurrently(limited, 50);
+    int grownLimit = limiter.getLimit();
+    assertTrue(grownLimit > 4);
+
+    status.set(503);
+    runConcurrently(limited, 20);
+
+    assertTrue(limiter.getLimit() < grownLimit);
+    assertEquals(limiter.getInFlight(), 0);
+    assertEquals((int) meterRegistry.get("feign.concurrency.limit").gauge().value(),
+        limiter.getLimit());
+  }
+
+  // 스레드마다 callsPerThread 번 호출하고, 한도 초과로 거절된 호출은 건너뛴다
+  private void runConcurrently(Client client, int callsPerThread) {
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < CONCURRENCY; i++) {
+      futures.add(CompletableFuture.runAsync(() -> {
+        for (int j = 0; j < callsPerThread; j++) {
+          try {
+            call(client);
+          } catch (ConcurrencyLimitExceededException e) {
+            sleep(1);
+          }
+        }
+      }, executor));
+    }
+    futures.forEach(CompletableFuture::join);
+  }
+
+  private Response call(Client client) {
+    try {
+      return client.execute(request(), new Request.Options());
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Request request() {
+    RequestTemplate template = new RequestTemplate();
+    template.feignTarget(new HardCodedTarget<>(ConsumerServiceFeignClient.class,
+        "consumer-service", "http://consumer-service"));
+
+    return Request.create(HttpMethod.GET, "http://consumer-service/consumers/1/auction",
+        Collections.emptyMap(), null, StandardCharsets.UTF_8, template);
+  }
+
+  private static Response response(Request request, int status) {
+    return Response.builder()
+        .status(status)
+        .request(request)
+        .headers(Collections.emptyMap())
+        .body("", StandardCharsets.UTF_8)
+        .build();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.jeontongju.auction.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jeontongju.auction.config.BulkheadProperties.Pool;
+import com.jeontongju.auction.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class BulkheadConfigTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BulkheadConfig bulkheadConfig =
+      new BulkheadConfig(new BulkheadProperties(), meterRegistry);
+
+  @Test
+  @DisplayName("풀과 큐가 가득 차면 BulkheadFullException 으로 즉시 거절한다")
+  void rejectWhenFull() throws InterruptedException {
+    ThreadPoolTaskExecutor executor = bulkheadConfig.create(
+        BulkheadConfig.ADMIN, new Pool(1, 1, 1, Thread.MIN_PRIORITY, false));
+    executor.initialize();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    executor.execute(() -> await(latch));
+    executor.execute(() -> await(latch));
+
+    assertThrows(BulkheadFullException.class, () -> executor.execute(() -> { }));
+    assertEquals(1.0, meterRegistry.get("auction.bulkhead.rejected")
+        .tag("bulkhead", BulkheadConfig.ADMIN).counter().count());
+
+    latch.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("callerRunsOnFull 풀은 가득 차면 호출한 스레드에서 실행한다")
+  void callerRunsWhenFull() {
+    ThreadPoolTaskExecutor executor = bulkheadConfig.create(
+        BulkheadConfig.FANOUT, new Pool(1, 1, 1, Thread.NORM_PRIORITY, true));
+    executor.initialize();
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+    executor.execute(() -> await(latch));
+    executor.execute(() -> await(latch));
+    executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+    assertEquals(Thread.currentThread(), ranOn.get());
+    latch.countDown();
+    executor.shutdown();
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
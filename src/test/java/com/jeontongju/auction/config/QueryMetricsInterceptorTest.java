@@ -0,0 +1,98 @@
+package com.jeontongju.auction.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jeontongju.auction.config.BulkheadProperties.Pool;
+import com.jeontongju.auction.config.datasource.QueryMetricsDataSourcePostProcessor;
+import com.jeontongju.auction.config.datasource.QueryMetricsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class QueryMetricsInterceptorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final QueryMetricsRecorder recorder = new QueryMetricsRecorder(meterRegistry, 20);
+  private final ThreadPoolTaskExecutor adminExecutor =
+      new BulkheadConfig(new BulkheadProperties(), meterRegistry)
+          .create(BulkheadConfig.ADMIN, new Pool(1, 1, 10, Thread.MIN_PRIORITY, false));
+
+  @AfterEach
+  void shutdown() {
+    adminExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("adminExecutor 에서 실행한 비동기 관리자 조회의 SQL 도 요청 엔드포인트로 집계한다")
+  void asyncAdminEndpoint() throws Exception {
+    adminExecutor.initialize();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate((DataSource)
+        new QueryMetricsDataSourcePostProcessor()
+            .postProcessAfterInitialization(embedded(), "dataSource"));
+    MockMvc mockMvc = MockMvcBuilders
+        .standaloneSetup(new AdminController(jdbcTemplate, adminExecutor))
+        .addInterceptors(new QueryMetricsInterceptor(recorder))
+        .build();
+
+    MvcResult result = mockMvc.perform(get("/admin"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+    assertEquals(meterRegistry.get("sql.statements").tag("endpoint", "AdminController.getAdmin")
+        .summary().totalAmount(), 2.0);
+    assertEquals(meterRegistry.get("sql.rows").tag("endpoint", "AdminController.getAdmin")
+        .summary().totalAmount(), 4.0);
+    // 요청 스레드에 범위가 남아 다음 요청으로 섞이지 않는다
+    jdbcTemplate.queryForList("SELECT id FROM auction");
+    assertEquals(meterRegistry.get("sql.statements").summary().count(), 1L);
+  }
+
+  @RestController
+  static class AdminController {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor adminExecutor;
+
+    AdminController(JdbcTemplate jdbcTemplate, ThreadPoolTaskExecutor adminExecutor) {
+      this.jdbcTemplate = jdbcTemplate;
+      this.adminExecutor = adminExecutor;
+    }
+
+    @GetMapping("/admin")
+    public CompletableFuture<List<Long>> getAdmin() {
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auction", Long.class);
+      return CompletableFuture.supplyAsync(
+          () -> jdbcTemplate.queryForList("SELECT id FROM auction ORDER BY id", Long.class),
+          adminExecutor);
+    }
+  }
+
+  private DataSource embedded() {
+    DataSource dataSource = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .generateUniqueName(true)
+        .build();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE auction (id BIGINT PRIMARY KEY)");
+    jdbcTemplate.execute("INSERT INTO auction VALUES (1), (2), (3)");
+    return dataSource;
+  }
+}
@@ -0,0 +1,73 @@
+package com.jeontongju.auction.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class QueryMetricsRecorderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final QueryMetricsRecorder recorder = new QueryMetricsRecorder(meterRegistry, 2);
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate((DataSource)
+      new QueryMetricsDataSourcePostProcessor()
+          .postProcessAfterInitialization(embedded(), "dataSource"));
+
+  @Test
+  @DisplayName("범위 안에서 실행한 SQL 횟수와 읽은 행 수를 엔드포인트별로 기록한다")
+  void recordStatementsAndRows() {
+    QueryScope scope = recorder.open("http", "AuctionController.getAuction");
+    jdbcTemplate.queryForList("SELECT id FROM bid ORDER BY id");
+    jdbcTemplate.update("UPDATE bid SET price = price + 1 WHERE id = 1");
+    recorder.close(scope);
+
+    // 범위 밖의 SQL 은 집계하지 않는다
+    jdbcTemplate.queryForList("SELECT id FROM bid");
+
+    assertEquals(summary("sql.statements").count(), 1L);
+    assertEquals(summary("sql.statements").totalAmount(), 2.0);
+    assertEquals(summary("sql.rows").totalAmount(), 3.0);
+    assertEquals(meterRegistry.get("sql.jdbc.time").tag("endpoint", "AuctionController.getAuction")
+        .timer().count(), 1L);
+    assertEquals(meterRegistry.find("sql.statements.over-budget").counter(), null);
+  }
+
+  @Test
+  @DisplayName("SQL 실행 횟수가 예산을 넘으면 초과 횟수를 기록하고, 중첩된 범위는 바깥 범위에 합산한다")
+  void overBudget() {
+    QueryScope scope = recorder.open("kafka", "bid-result");
+    for (int i = 0; i < 3; i++) {
+      QueryScope nested = recorder.open("http", "nested");
+      jdbcTemplate.queryForObject("SELECT price FROM bid WHERE id = ?", Long.class, i + 1);
+      recorder.close(nested);
+    }
+    recorder.close(scope);
+
+    assertEquals(meterRegistry.get("sql.statements").tag("endpoint", "bid-result")
+        .summary().totalAmount(), 3.0);
+    assertEquals(meterRegistry.get("sql.statements.over-budget").tag("endpoint", "bid-result")
+        .counter().count(), 1.0);
+    assertEquals(meterRegistry.find("sql.statements").tag("endpoint", "nested").summary(), null);
+  }
+
+  private DistributionSummary summary(String name) {
+    return meterRegistry.get(name).tag("endpoint", "AuctionController.getAuction").summary();
+  }
+
+  private DataSource embedded() {
+    DataSource dataSource = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .generateUniqueName(true)
+        .build();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE bid (id BIGINT PRIMARY KEY, price BIGINT)");
+    jdbcTemplate.execute("INSERT INTO bid VALUES (1, 1000), (2, 2000), (3, 3000)");
+    return dataSource;
+  }
+}
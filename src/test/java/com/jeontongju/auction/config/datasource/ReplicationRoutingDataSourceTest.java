@@ -0,0 +1,82 @@
+package com.jeontongju.auction.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicationRoutingDataSourceTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final DataSource primary = embedded("primary");
+  private final DataSource replica = embedded("replica");
+
+  @Test
+  @DisplayName("읽기 전용 트랜잭션만 replica 로 간다")
+  void routeReadOnlyToReplica() {
+    ReplicaLagMonitor lagMonitor = lagMonitor(0);
+    lagMonitor.check();
+    JdbcTemplate jdbcTemplate = jdbcTemplate(lagMonitor);
+
+    assertEquals(inTransaction(jdbcTemplate, true), "replica");
+    assertEquals(inTransaction(jdbcTemplate, false), "primary");
+    assertEquals(jdbcTemplate.queryForObject("SELECT name FROM route_marker", String.class),
+        "primary");
+    assertEquals(meterRegistry.get("datasource.route").tag("route", "replica")
+        .functionCounter().count(), 1.0);
+  }
+
+  @Test
+  @DisplayName("replica 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary 로 간다")
+  void fallbackToPrimaryOnLag() {
+    ReplicaLagMonitor lagMonitor = lagMonitor(30);
+    lagMonitor.check();
+    JdbcTemplate jdbcTemplate = jdbcTemplate(lagMonitor);
+
+    assertEquals(inTransaction(jdbcTemplate, true), "primary");
+    assertEquals(meterRegistry.get("datasource.route.fallback").functionCounter().count(), 1.0);
+    assertEquals(meterRegistry.get("datasource.replica.lag").gauge().value(), 30.0);
+  }
+
+  private ReplicaLagMonitor lagMonitor(long lagSeconds) {
+    ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica,
+        "SELECT " + lagSeconds + " AS Seconds_Behind_Source", "Seconds_Behind_Source", 5);
+    lagMonitor.bindTo(meterRegistry);
+    return lagMonitor;
+  }
+
+  private JdbcTemplate jdbcTemplate(ReplicaLagMonitor lagMonitor) {
+    ReplicationRoutingDataSource routingDataSource =
+        new ReplicationRoutingDataSource(primary, replica, lagMonitor);
+    routingDataSource.afterPropertiesSet();
+    routingDataSource.bindTo(meterRegistry);
+    return new JdbcTemplate(new LazyConnectionDataSourceProxy(routingDataSource));
+  }
+
+  private String inTransaction(JdbcTemplate jdbcTemplate, boolean readOnly) {
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(status ->
+        jdbcTemplate.queryForObject("SELECT name FROM route_marker", String.class));
+  }
+
+  private DataSource embedded(String name) {
+    DataSource dataSource = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .generateUniqueName(true)
+        .build();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE route_marker (name VARCHAR(10))");
+    jdbcTemplate.update("INSERT INTO route_marker VALUES (?)", name);
+    return dataSource;
+  }
+}
@@ -0,0 +1,36 @@
+package com.jeontongju.auction.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.jeontongju.auction.config.datasource.QueryMetricsRecorder;
+import com.jeontongju.auction.config.datasource.QueryScope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryMetricsRecordInterceptorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final QueryMetricsRecordInterceptor interceptor =
+      new QueryMetricsRecordInterceptor(new QueryMetricsRecorder(meterRegistry, 20));
+  private final MockConsumer<Object, Object> consumer =
+      new MockConsumer<>(OffsetResetStrategy.LATEST);
+
+  @Test
+  @DisplayName("컨테이너가 호출하는 intercept(record, consumer) 에서 토픽 단위 집계를 시작하고 처리 후 닫는다")
+  void recordPerTopic() {
+    ConsumerRecord<Object, Object> record = new ConsumerRecord<>("bid-info", 0, 0L, "key", "value");
+
+    interceptor.intercept(record, consumer);
+    assertEquals(QueryScope.current().getEndpoint(), "bid-info");
+
+    interceptor.afterRecord(record, consumer);
+    assertNull(QueryScope.current());
+    assertEquals(meterRegistry.get("sql.statements").tag("type", "kafka")
+        .tag("endpoint", "bid-info").summary().count(), 1L);
+  }
+}
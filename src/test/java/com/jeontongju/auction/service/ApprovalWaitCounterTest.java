@@ -0,0 +1,77 @@
+package com.jeontongju.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.auction.event.ApprovalWaitChangedEvent;
+import com.jeontongju.auction.repository.AuctionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class ApprovalWaitCounterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private RedisTemplate<String, Object> redisTemplate;
+  private ValueOperations<String, Object> valueOperations;
+  private AuctionRepository auctionRepository;
+  private ApprovalWaitCounter counter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void before() {
+    redisTemplate = mock(RedisTemplate.class);
+    valueOperations = mock(ValueOperations.class);
+    auctionRepository = mock(AuctionRepository.class);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+    counter = new ApprovalWaitCounter(redisTemplate, auctionRepository, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("카운터가 있으면 DB 를 조회하지 않는다")
+  void readCounter() {
+    when(valueOperations.get(ApprovalWaitCounter.KEY)).thenReturn("12");
+
+    assertEquals(counter.get(), 12L);
+    verify(auctionRepository, never()).countByAuctionProductIsWait();
+  }
+
+  @Test
+  @DisplayName("카운터가 없으면 DB 로 채우고, 보정 때 차이를 drift 로 남긴다")
+  void reconcile() {
+    when(auctionRepository.countByAuctionProductIsWait()).thenReturn(5L);
+    when(valueOperations.getAndSet(ApprovalWaitCounter.KEY, "5")).thenReturn(null, "7");
+
+    assertEquals(counter.get(), 5L);
+    assertEquals(counter.reconcile(), 5L);
+    assertEquals(meterRegistry.get("auction.product.approval-wait.drift").gauge().value(), 2.0);
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시 DB 에서 집계하고, 증감 실패는 요청을 막지 않는다")
+  @SuppressWarnings("unchecked")
+  void fallback() {
+    when(valueOperations.get(ApprovalWaitCounter.KEY))
+        .thenThrow(new RedisConnectionFailureException("down"));
+    when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+        .thenThrow(new RedisConnectionFailureException("down"));
+    when(auctionRepository.countByAuctionProductIsWait()).thenReturn(3L);
+
+    counter.onChanged(ApprovalWaitChangedEvent.of(1));
+
+    assertEquals(counter.get(), 3L);
+    assertEquals(meterRegistry.get("auction.product.approval-wait.fallback").counter().count(), 1.0);
+  }
+}
@@ -0,0 +1,151 @@
+package com.jeontongju.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jeontongju.auction.domain.Auction;
+import com.jeontongju.auction.domain.common.CacheRegion;
+import com.jeontongju.auction.dto.request.AuctionModifyRequestDto;
+import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.event.AuctionCacheInvalidator;
+import com.jeontongju.auction.kafka.KafkaProcessor;
+import com.jeontongju.auction.repository.AuctionProductRepository;
+import com.jeontongju.auction.repository.AuctionRepository;
+import com.jeontongju.auction.util.InitData;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 같은 트랜잭션에서 저장한 엔티티는 2차 캐시에 올라가지 않으므로 커밋된 데이터로 검증한다
+@SpringBootTest
+@ActiveProfiles("prod")
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2, replace = AutoConfigureTestDatabase.Replace.ANY)
+public class AuctionCacheTest {
+
+  @Autowired
+  private AuctionRepository auctionRepository;
+
+  @Autowired
+  private AuctionProductRepository auctionProductRepository;
+
+  @Autowired
+  private AuctionService auctionService;
+
+  @Autowired
+  private AuctionCacheInvalidator auctionCacheInvalidator;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private InitData init;
+
+  @MockBean
+  private KafkaProcessor<String> kafkaProcessor;
+
+  private String auctionId;
+  private Statistics statistics;
+  private Cache cache;
+
+  @BeforeEach
+  void before() {
+    auctionId = transactionTemplate.execute(status -> {
+      Auction auction = auctionRepository.save(
+          init.initAuction("제 20회 복순도가 경매대회", AuctionStatusEnum.BEFORE));
+      auctionProductRepository.saveAll(init.initAuctionProduct(auction));
+      return auction.getAuctionId();
+    });
+
+    SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    statistics = sessionFactory.getStatistics();
+    cache = sessionFactory.getCache();
+  }
+
+  @AfterEach
+  void after() {
+    transactionTemplate.executeWithoutResult(status -> {
+      auctionProductRepository.deleteAll(auctionProductRepository.findAll());
+      auctionRepository.deleteAll();
+    });
+    cache.evictAllRegions();
+  }
+
+  @Test
+  @DisplayName("경매는 2차 캐시에서 읽고, 수정하면 변경된 값을 읽는다")
+  void readThroughAndUpdate() {
+    findAuction();
+
+    statistics.clear();
+    findAuction();
+    assertEquals(statistics.getDomainDataRegionStatistics(CacheRegion.AUCTION).getHitCount(), 1L);
+    assertEquals(statistics.getPrepareStatementCount(), 0L);
+
+    auctionService.modifyAuction(
+        AuctionModifyRequestDto.builder().title("제 21회 복순도가 경매대회").build(), auctionId);
+
+    assertEquals(findAuction().getTitle(), "제 21회 복순도가 경매대회");
+  }
+
+  @Test
+  @DisplayName("무효화 메시지를 받으면 경매 / 상품 목록 / 쿼리 캐시를 비운다")
+  void evict() {
+    transactionTemplate.executeWithoutResult(status ->
+        auctionRepository.findById(auctionId).orElseThrow().getAuctionProductList().size());
+    auctionService.getThisAuctionDetail();
+    assertEquals(cache.containsEntity(Auction.class, auctionId), true);
+
+    auctionCacheInvalidator.evict(auctionId);
+
+    assertEquals(cache.containsEntity(Auction.class, auctionId), false);
+    assertEquals(
+        cache.containsCollection(Auction.class.getName() + ".auctionProductList", auctionId),
+        false);
+
+    statistics.clear();
+    auctionService.getThisAuctionDetail();
+    assertEquals(
+        statistics.getQueryRegionStatistics(CacheRegion.AUCTION_CATALOG).getHitCount(), 0L);
+  }
+
+  @Test
+  @DisplayName("replica 를 쓰면 무효화 직후 다시 올라온 캐시를 허용 지연이 지난 뒤 한 번 더 비운다")
+  void evictAgainAfterReplicaLag() throws InterruptedException {
+    AuctionCacheInvalidator replicaAware =
+        new AuctionCacheInvalidator(kafkaProcessor, entityManagerFactory);
+    ReflectionTestUtils.setField(replicaAware, "replicaUrl", "jdbc:h2:mem:replica");
+    ReflectionTestUtils.setField(replicaAware, "maxLagSeconds", 0L);
+    ReflectionTestUtils.setField(replicaAware, "checkIntervalMillis", 300L);
+    try {
+      replicaAware.evict(auctionId);
+      // 아직 변경을 받지 못한 replica 에서 읽어 다시 올라온 캐시
+      findAuction();
+      assertEquals(cache.containsEntity(Auction.class, auctionId), true);
+
+      Thread.sleep(1000);
+
+      assertEquals(cache.containsEntity(Auction.class, auctionId), false);
+    } finally {
+      replicaAware.shutdown();
+    }
+  }
+
+  private Auction findAuction() {
+    return transactionTemplate.execute(status ->
+        auctionRepository.findById(auctionId).orElseThrow());
+  }
+}
@@ -0,0 +1,104 @@
+package com.jeontongju.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jeontongju.auction.domain.Auction;
+import com.jeontongju.auction.domain.AuctionProduct;
+import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.repository.AuctionProductRepository;
+import com.jeontongju.auction.repository.AuctionRepository;
+import com.jeontongju.auction.repository.BidInfoRepository;
+import com.jeontongju.auction.util.InitData;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@ActiveProfiles("prod")
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2, replace = AutoConfigureTestDatabase.Replace.ANY)
+public class AuctionDetailQueryCountTest {
+
+  @Autowired
+  private AuctionRepository auctionRepository;
+
+  @Autowired
+  private AuctionProductRepository auctionProductRepository;
+
+  @Autowired
+  private BidInfoRepository bidInfoRepository;
+
+  @Autowired
+  private AuctionService auctionService;
+
+  @Autowired
+  private AuctionProductResultService auctionProductResultService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private InitData init;
+
+  private Auction initAuction;
+  private Statistics statistics;
+  private int productBatch;
+
+  @BeforeEach
+  void before() {
+    initAuction = init.initAuction("제 20회 복순도가 경매대회", AuctionStatusEnum.AFTER);
+    auctionRepository.save(initAuction);
+
+    statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+
+  @Test
+  @DisplayName("진행 완료 경매 상세 조회 쿼리 수는 상품 수와 무관하다")
+  void getAdminAuctionDetailQueryCount() {
+    addProductsWithBids(1);
+    long fewProducts = countQueries();
+
+    addProductsWithBids(10);
+    long manyProducts = countQueries();
+
+    assertEquals(fewProducts, manyProducts);
+    assertEquals(3L, manyProducts);
+  }
+
+  private void addProductsWithBids(int times) {
+    for (int i = 0; i < times; i++) {
+      // 경매 하나에 셀러당 상품은 하나뿐이므로 묶음마다 셀러를 바꾼다
+      long sellerOffset = 10L * ++productBatch;
+      List<AuctionProduct> productList = init.initAuctionProduct(initAuction).stream()
+          .map(product -> product.toBuilder()
+              .sellerId(product.getSellerId() + sellerOffset)
+              .build())
+          .collect(Collectors.toList());
+      auctionProductRepository.saveAll(productList);
+      bidInfoRepository.saveAll(
+          init.initBidInfo(initAuction, productList.get(0), productList.get(1)));
+    }
+    auctionProductResultService.backfill(100);
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private long countQueries() {
+    statistics.clear();
+    auctionService.getAdminAuctionDetail(initAuction.getAuctionId());
+    return statistics.getPrepareStatementCount();
+  }
+}
@@ -10,26 +10,35 @@ import com.jeontongju.auction.domain.Auction;
 import com.jeontongju.auction.domain.AuctionProduct;
 import com.jeontongju.auction.domain.BidInfo;
 import com.jeontongju.auction.dto.request.AuctionModifyRequestDto;
+import com.jeontongju.auction.dto.request.AuctionProductConfirmRequestDto;
 import com.jeontongju.auction.dto.request.AuctionProductRegisterRequestDto;
 import com.jeontongju.auction.dto.request.AuctionRegisterRequestDto;
+import com.jeontongju.auction.dto.response.AdminAuctionResponseDto;
 import com.jeontongju.auction.dto.response.AuctionDetailResponseDto;
+import com.jeontongju.auction.dto.response.AuctionProductConfirmResponseDto;
 import com.jeontongju.auction.dto.response.AuctionProductBidResponseDto;
 import com.jeontongju.auction.dto.response.ConsumerAuctionBidResponseDto;
+import com.jeontongju.auction.dto.response.CursorPageResponseDto;
 import com.jeontongju.auction.dto.response.SellerAuctionEntriesResponseDto;
 import com.jeontongju.auction.dto.response.SellerAuctionResponseDto;
+import com.jeontongju.auction.enums.AuctionProductConfirmResultEnum;
 import com.jeontongju.auction.enums.AuctionProductStatusEnum;
 import com.jeontongju.auction.enums.AuctionStatusEnum;
 import com.jeontongju.auction.exception.DuplicateSellerRegisterProductException;
+import com.jeontongju.auction.exception.InvalidPageSizeException;
 import com.jeontongju.auction.exception.SameWeekOfAuctionException;
 import com.jeontongju.auction.repository.AuctionProductRepository;
 import com.jeontongju.auction.repository.AuctionRepository;
 import com.jeontongju.auction.repository.BidInfoRepository;
 import com.jeontongju.auction.util.InitData;
+import com.jeontongju.auction.util.KeysetCursor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +53,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -67,6 +77,9 @@ public class AuctionServiceTest {
   @Autowired
   private AuctionService auctionService;
 
+  @Autowired
+  private AuctionProductResultService auctionProductResultService;
+
   @Autowired
   private EntityManager entityManager;
 
@@ -120,6 +133,7 @@ public class AuctionServiceTest {
 
     entityManager.flush();
     entityManager.clear();
+    auctionProductResultService.backfill(100);
 
     Page<SellerAuctionEntriesResponseDto> auctionEntries = auctionService.getAuctionEntries(1L,
         PageRequest.of(0, 10));
@@ -138,6 +152,36 @@ public class AuctionServiceTest {
     });
   }
 
+  @Test
+  @DisplayName("관리자 경매 목록 조회 - 상태별 상품 수")
+  void getAdminAuction() {
+    initProductList = init.initAuctionProduct(initAuction);
+    auctionProductRepository.saveAll(initProductList);
+
+    Auction auction2 = init.initAuction("제 19회 복순도가 경매대회", AuctionStatusEnum.AFTER);
+    auctionRepository.save(auction2);
+    auctionProductRepository.saveAll(init.initAuctionProduct(auction2));
+
+    entityManager.flush();
+    entityManager.clear();
+
+    Page<AdminAuctionResponseDto> adminAuction = auctionService.getAdminAuction(
+        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+    adminAuction.forEach(dto -> {
+      if (dto.getStatus() == AuctionStatusEnum.AFTER) {
+        assertEquals(dto.getParticipation(), 1L);
+        assertNull(dto.getWait());
+      } else {
+        assertEquals(dto.getWait(), 1L);
+        assertEquals(dto.getAllow(), 1L);
+        assertEquals(dto.getDeny(), 1L);
+        assertNull(dto.getParticipation());
+      }
+    });
+    assertEquals(adminAuction.getContent().get(0).getTitle(), "제 19회 복순도가 경매대회");
+  }
+
   @Test
   @DisplayName("관리자 특정 경매 상세 조회")
   void getAdminAuctionDetail() {
@@ -155,6 +199,7 @@ public class AuctionServiceTest {
 
     entityManager.flush();
     entityManager.clear();
+    auctionProductResultService.backfill(100);
 
     AuctionDetailResponseDto auctionBeforeResponse = auctionService.getAdminAuctionDetail(
         initAuction.getAuctionId());
@@ -216,6 +261,87 @@ public class AuctionServiceTest {
     assertEquals(initProductList.get(1).getStatus(), AuctionProductStatusEnum.DENY);
   }
 
+  @Test
+  @DisplayName("경매 물품 일괄 승인 / 반려 - 상품별 처리 결과와 참여 자리")
+  void confirmAuctionProducts() {
+    initProductList = init.initAuctionProduct(initAuction);
+    auctionProductRepository.saveAll(initProductList);
+
+    String waitId = initProductList.get(0).getAuctionProductId();
+    String allowId = initProductList.get(1).getAuctionProductId();
+    String denyId = initProductList.get(2).getAuctionProductId();
+
+    List<AuctionProductConfirmResponseDto> results = auctionService.confirmAuctionProducts(
+        AuctionProductConfirmRequestDto.builder()
+            .allow(List.of(waitId, denyId, "없는 상품"))
+            .deny(List.of(allowId, waitId))
+            .build());
+
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(
+        results.stream().map(AuctionProductConfirmResponseDto::getResult).collect(Collectors.toList()),
+        List.of(AuctionProductConfirmResultEnum.CONFLICT, AuctionProductConfirmResultEnum.CONFIRMED,
+            AuctionProductConfirmResultEnum.NOT_FOUND, AuctionProductConfirmResultEnum.CONFIRMED));
+    assertEquals(auctionProductRepository.findById(waitId).orElseThrow().getStatus(),
+        AuctionProductStatusEnum.WAIT);
+    assertEquals(auctionProductRepository.findById(allowId).orElseThrow().getStatus(),
+        AuctionProductStatusEnum.DENY);
+    assertEquals(auctionProductRepository.findById(denyId).orElseThrow().getStatus(),
+        AuctionProductStatusEnum.ALLOW);
+    assertEquals(auctionRepository.findById(initAuction.getAuctionId()).orElseThrow()
+        .getReservedSlots(), 1);
+  }
+
+  @Test
+  @DisplayName("관리자 경매 목록 / 셀러 출품 내역 조회 - 커서 페이지네이션")
+  void getByCursor() {
+    for (int i = 0; i < 5; i++) {
+      Auction auction = auctionRepository.save(
+          init.initAuction("제 " + i + "회 경매", AuctionStatusEnum.AFTER));
+      auctionProductRepository.saveAll(init.initAuctionProduct(auction));
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+
+    CursorPageResponseDto<AdminAuctionResponseDto> first = auctionService.getAdminAuction(null, 4, true);
+    CursorPageResponseDto<AdminAuctionResponseDto> second = auctionService.getAdminAuction(
+        first.getNextCursor(), 4, true);
+
+    assertEquals(first.getContent().size(), 4);
+    assertEquals(first.getTotalElements(), 6L);
+    assertEquals(second.getContent().size(), 2);
+    assertEquals(second.getHasNext(), false);
+    assertNull(second.getTotalElements());
+    assertTrue(first.getContent().stream().noneMatch(dto -> second.getContent().stream()
+        .anyMatch(next -> next.getAuctionId().equals(dto.getAuctionId()))));
+
+    CursorPageResponseDto<SellerAuctionEntriesResponseDto> entries = auctionService.getAuctionEntries(
+        1L, null, 3, false);
+    CursorPageResponseDto<SellerAuctionEntriesResponseDto> nextEntries = auctionService.getAuctionEntries(
+        1L, entries.getNextCursor(), 3, false);
+
+    assertNull(entries.getTotalElements());
+    assertEquals(entries.getContent().size(), 3);
+    assertEquals(nextEntries.getContent().size(), 2);
+    assertEquals(nextEntries.getHasNext(), false);
+  }
+
+  @Test
+  @DisplayName("관리자 경매 목록 / 셀러 출품 내역 조회 - 커서 페이지 크기가 범위를 벗어나면 조회하지 않는다")
+  void getByCursorInvalidSize() {
+    assertThrows(InvalidPageSizeException.class, () ->
+        auctionService.getAdminAuction(null, 0, false));
+    assertThrows(InvalidPageSizeException.class, () ->
+        auctionService.getAdminAuction(null, -1, false));
+    assertThrows(InvalidPageSizeException.class, () ->
+        auctionService.getAuctionEntries(1L, null, KeysetCursor.MAX_SIZE + 1, false));
+    assertEquals(auctionService.getAuctionEntries(1L, null, KeysetCursor.MAX_SIZE, false)
+        .getHasNext(), false);
+  }
+
   @Test
   @DisplayName("소비자 입찰 내역 조회")
   void getConsumerBidInfo() {
@@ -227,6 +353,7 @@ public class AuctionServiceTest {
 
     entityManager.flush();
     entityManager.clear();
+    auctionProductResultService.backfill(100);
 
     Page<ConsumerAuctionBidResponseDto> consumerBidInfo = auctionService.getConsumerBidInfo(1L,
         PageRequest.of(0, 10));
@@ -236,6 +363,42 @@ public class AuctionServiceTest {
   }
 
 
+  @Test
+  @DisplayName("소비자 입찰 내역 조회 - 커서 페이지네이션")
+  void getConsumerBidInfoByCursor() {
+    initProductList = init.initAuctionProduct(initAuction);
+    auctionProductRepository.saveAll(initProductList);
+
+    initBidInfoList = init.initBidInfo(initAuction, initProductList.get(0), initProductList.get(1));
+    bidInfoRepository.saveAll(initBidInfoList);
+
+    entityManager.flush();
+    entityManager.clear();
+    auctionProductResultService.backfill(100);
+
+    CursorPageResponseDto<ConsumerAuctionBidResponseDto> firstPage =
+        auctionService.getConsumerBidInfo(1L, null, 1);
+    CursorPageResponseDto<ConsumerAuctionBidResponseDto> secondPage =
+        auctionService.getConsumerBidInfo(1L, firstPage.getNextCursor(), 1);
+
+    assertEquals(firstPage.getContent().size(), 1);
+    assertEquals(firstPage.getHasNext(), true);
+    assertEquals(firstPage.getTotalElements(), 2L);
+    assertEquals(secondPage.getContent().size(), 1);
+    assertEquals(secondPage.getHasNext(), false);
+    assertEquals(secondPage.getContent().get(0).getMyLastBidPrice(), 11000L);
+    assertEquals(secondPage.getContent().get(0).getLastBidPrice(), 12000L);
+  }
+
+  @Test
+  @DisplayName("소비자 입찰 내역 조회 - 커서 페이지 크기가 범위를 벗어나면 조회하지 않는다")
+  void getConsumerBidInfoByCursorInvalidSize() {
+    assertThrows(InvalidPageSizeException.class, () ->
+        auctionService.getConsumerBidInfo(1L, null, 0));
+    assertThrows(InvalidPageSizeException.class, () ->
+        auctionService.getConsumerBidInfo(1L, null, KeysetCursor.MAX_SIZE + 1));
+  }
+
   @Test
   @DisplayName("같은 주차 경매 생성 불가")
   void sameWeekRegisterAuction() {
@@ -248,6 +411,43 @@ public class AuctionServiceTest {
     assertThrows(SameWeekOfAuctionException.class, () -> auctionService.registerAuction(request));
   }
 
+  @Test
+  @DisplayName("같은 주차 경매 검사 - 20년치 경매 이력에서 연도까지 구분")
+  void sameWeekRegisterAuctionWithHistory() {
+    LocalDateTime thisWeek = initAuction.getStartDate();
+    LocalDateTime targetWeek = thisWeek.plusWeeks(3);
+
+    // 대상 주차를 제외하고 지난 20년간 매주 열린 경매
+    List<Auction> history = new ArrayList<>();
+    for (int week = 1; week <= 52 * 20; week++) {
+      history.add(initAuction.toBuilder()
+          .auctionId(null)
+          .title("제 " + week + "회 경매")
+          .startDate(targetWeek.minusWeeks(week))
+          .status(AuctionStatusEnum.AFTER)
+          .build());
+    }
+    auctionRepository.saveAll(history);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    auctionService.registerAuction(AuctionRegisterRequestDto.builder()
+        .title("제 21회 복순도가 경매대회")
+        .description("설명 설명")
+        .startDate(targetWeek.format(DateTimeFormatter.ofPattern("yyyy.MM.dd.")))
+        .build());
+
+    AuctionRegisterRequestDto sameWeekRequest = AuctionRegisterRequestDto.builder()
+        .title("제 20회 복순도가 경매대회 2")
+        .description("설명 설명")
+        .startDate(thisWeek.format(DateTimeFormatter.ofPattern("yyyy.MM.dd.")))
+        .build();
+
+    assertEquals(auctionRepository.count(), 52 * 20 + 2L);
+    assertThrows(SameWeekOfAuctionException.class, () -> auctionService.registerAuction(sameWeekRequest));
+  }
+
   @Test
   @DisplayName("이미 경매에 등록된 셀러 재등록 불가")
   void alreadyRegisteredProduct() {
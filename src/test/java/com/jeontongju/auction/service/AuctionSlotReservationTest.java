@@ -0,0 +1,209 @@
+package com.jeontongju.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jeontongju.auction.domain.Auction;
+import com.jeontongju.auction.domain.AuctionProduct;
+import com.jeontongju.auction.dto.request.AuctionProductConfirmRequestDto;
+import com.jeontongju.auction.enums.AuctionProductStatusEnum;
+import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.event.ApprovalWaitChangedEvent;
+import com.jeontongju.auction.exception.OverParticipationException;
+import com.jeontongju.auction.kafka.KafkaProcessor;
+import com.jeontongju.auction.repository.AuctionProductRepository;
+import com.jeontongju.auction.repository.AuctionRepository;
+import com.jeontongju.auction.util.InitData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 동시 승인은 각자 커밋되는 트랜잭션이어야 하므로 커밋된 데이터로 검증한다
+@SpringBootTest
+@ActiveProfiles("prod")
+@RecordApplicationEvents
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2, replace = AutoConfigureTestDatabase.Replace.ANY)
+public class AuctionSlotReservationTest {
+
+  @Autowired
+  private AuctionRepository auctionRepository;
+
+  @Autowired
+  private AuctionProductRepository auctionProductRepository;
+
+  @Autowired
+  private AuctionService auctionService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private InitData init;
+
+  @Autowired
+  private ApplicationEvents applicationEvents;
+
+  @MockBean
+  private KafkaProcessor<String> kafkaProcessor;
+
+  private String auctionId;
+  private List<String> productIds;
+
+  @BeforeEach
+  void before() {
+    transactionTemplate.executeWithoutResult(status -> {
+      Auction auction = auctionRepository.save(
+          init.initAuction("제 20회 복순도가 경매대회", AuctionStatusEnum.BEFORE));
+      AuctionProduct product = init.initAuctionProduct(auction).get(0);
+
+      List<AuctionProduct> products = IntStream.rangeClosed(1, 25)
+          .mapToObj(sellerId -> product.toBuilder().sellerId((long) sellerId).build())
+          .collect(Collectors.toList());
+
+      auctionId = auction.getAuctionId();
+      productIds = auctionProductRepository.saveAll(products).stream()
+          .map(AuctionProduct::getAuctionProductId)
+          .collect(Collectors.toList());
+    });
+  }
+
+  @AfterEach
+  void after() {
+    transactionTemplate.executeWithoutResult(status -> {
+      auctionProductRepository.deleteAll(auctionProductRepository.findAll());
+      auctionRepository.deleteAll();
+    });
+    entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+  }
+
+  @Test
+  @DisplayName("동시에 승인해도 참여 인원 20명을 넘지 않는다")
+  void concurrentApprove() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<Boolean>> results = new ArrayList<>();
+
+    for (String productId : productIds) {
+      results.add(executor.submit(() -> {
+        try {
+          auctionService.approveAuctionProduct(productId, AuctionProductStatusEnum.ALLOW);
+          return true;
+        } catch (OverParticipationException e) {
+          return false;
+        }
+      }));
+    }
+
+    int approved = 0;
+    for (Future<Boolean> result : results) {
+      approved += result.get() ? 1 : 0;
+    }
+    executor.shutdown();
+
+    assertEquals(approved, 20);
+    assertEquals(reservedSlots(), 20);
+  }
+
+  @Test
+  @DisplayName("같은 상품을 동시에 여러 번 승인 / 거절해도 자리는 한 번만 잡고 한 번만 돌려준다")
+  void concurrentApproveSameProduct() throws Exception {
+    String productId = productIds.get(0);
+    runConcurrently(8, () -> auctionService.approveAuctionProduct(productId,
+        AuctionProductStatusEnum.ALLOW));
+    assertEquals(reservedSlots(), 1);
+
+    runConcurrently(8, () -> auctionService.approveAuctionProduct(productId,
+        AuctionProductStatusEnum.DENY));
+    assertEquals(reservedSlots(), 0);
+  }
+
+  @Test
+  @DisplayName("일괄 승인과 단건 승인이 같은 상품에 동시에 들어와도 자리는 바뀐 상품 수만큼만 잡는다")
+  void concurrentBulkAndSingleApprove() throws Exception {
+    List<String> targets = productIds.subList(0, 5);
+    AuctionProductConfirmRequestDto request = AuctionProductConfirmRequestDto.builder()
+        .allow(targets)
+        .deny(List.of())
+        .build();
+
+    AtomicInteger turn = new AtomicInteger();
+    runConcurrently(8, () -> {
+      if (turn.getAndIncrement() % 2 == 0) {
+        auctionService.confirmAuctionProducts(request);
+      } else {
+        targets.forEach(id ->
+            auctionService.approveAuctionProduct(id, AuctionProductStatusEnum.ALLOW));
+      }
+    });
+
+    assertEquals(reservedSlots(), 5);
+  }
+
+  @Test
+  @DisplayName("승인된 상품을 거절하면 자리를 돌려준다")
+  void releaseOnDeny() {
+    auctionService.approveAuctionProduct(productIds.get(0), AuctionProductStatusEnum.ALLOW);
+    auctionService.approveAuctionProduct(productIds.get(0), AuctionProductStatusEnum.ALLOW);
+    assertEquals(reservedSlots(), 1);
+
+    auctionService.approveAuctionProduct(productIds.get(0), AuctionProductStatusEnum.DENY);
+    assertEquals(reservedSlots(), 0);
+  }
+
+  @Test
+  @DisplayName("대기 상품을 승인 / 거절하면 승인 대기 수를 1 줄이고, 승인 -> 거절은 바꾸지 않는다")
+  void publishWaitDelta() {
+    auctionService.approveAuctionProduct(productIds.get(0), AuctionProductStatusEnum.ALLOW);
+    auctionService.approveAuctionProduct(productIds.get(1), AuctionProductStatusEnum.DENY);
+    auctionService.approveAuctionProduct(productIds.get(0), AuctionProductStatusEnum.DENY);
+
+    assertEquals(applicationEvents.stream(ApprovalWaitChangedEvent.class)
+        .map(ApprovalWaitChangedEvent::getDelta)
+        .collect(Collectors.toList()), List.of(-1L, -1L, 0L));
+  }
+
+  private void runConcurrently(int count, Runnable task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(count);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      results.add(executor.submit(() -> {
+        start.await();
+        task.run();
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> result : results) {
+      result.get();
+    }
+    executor.shutdown();
+  }
+
+  private int reservedSlots() {
+    return transactionTemplate.execute(status ->
+        auctionRepository.findById(auctionId).orElseThrow().getReservedSlots());
+  }
+}
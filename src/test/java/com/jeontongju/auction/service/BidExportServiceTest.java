@@ -0,0 +1,107 @@
+package com.jeontongju.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeontongju.auction.domain.Auction;
+import com.jeontongju.auction.domain.AuctionProduct;
+import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.enums.BidExportFormatEnum;
+import com.jeontongju.auction.exception.InvalidBidExportRangeException;
+import com.jeontongju.auction.repository.AuctionProductRepository;
+import com.jeontongju.auction.repository.AuctionRepository;
+import com.jeontongju.auction.repository.BidInfoRepository;
+import com.jeontongju.auction.util.InitData;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("prod")
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2, replace = AutoConfigureTestDatabase.Replace.ANY)
+public class BidExportServiceTest {
+
+  @Autowired
+  private AuctionRepository auctionRepository;
+
+  @Autowired
+  private AuctionProductRepository auctionProductRepository;
+
+  @Autowired
+  private BidInfoRepository bidInfoRepository;
+
+  @Autowired
+  private BidExportService bidExportService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private InitData init;
+
+  private Auction initAuction;
+
+  @BeforeEach
+  void before() {
+    initAuction = auctionRepository.save(
+        init.initAuction("제 20회, \"복순도가\" 경매대회", AuctionStatusEnum.AFTER));
+    List<AuctionProduct> productList = auctionProductRepository.saveAll(
+        init.initAuctionProduct(initAuction));
+    bidInfoRepository.saveAll(
+        init.initBidInfo(initAuction, productList.get(0), productList.get(1)));
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("입찰 내역 CSV 내보내기 - 헤더와 입찰 수만큼의 행, 쉼표와 따옴표는 감싼다")
+  void exportCsv() {
+    String[] lines = export(BidExportFormatEnum.CSV).split("\n");
+
+    assertEquals(lines.length, 1 + bidInfoRepository.count());
+    assertEquals(lines[0].startsWith("bid_info_id,auction_id,auction_title"), true);
+    assertEquals(lines[1].contains(",\"제 20회, \"\"복순도가\"\" 경매대회\","), true);
+  }
+
+  @Test
+  @DisplayName("입찰 내역 JSON lines 내보내기 - 한 줄에 입찰 하나")
+  void exportJsonLines() throws Exception {
+    String[] lines = export(BidExportFormatEnum.JSONL).split("\n");
+    JsonNode first = objectMapper.readTree(lines[0]);
+
+    assertEquals(lines.length, bidInfoRepository.count());
+    assertEquals(first.get("auctionId").asText(), initAuction.getAuctionId());
+    assertEquals(first.get("bidPrice").asLong(), 10000L);
+  }
+
+  @Test
+  @DisplayName("경매와 기간이 모두 없으면 내보낼 수 없다")
+  void invalidRange() {
+    assertThrows(InvalidBidExportRangeException.class, () -> bidExportService.export(
+        null, LocalDate.now(), null, BidExportFormatEnum.CSV, new ByteArrayOutputStream()));
+  }
+
+  private String export(BidExportFormatEnum format) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    bidExportService.export(initAuction.getAuctionId(), null, null, format, outputStream);
+    return outputStream.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,64 @@
+package com.jeontongju.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jeontongju.auction.enums.BidStageEnum;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BidPipelineMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BidPipelineMetrics metrics = new BidPipelineMetrics(
+      meterRegistry, new long[]{1, 5}, new long[]{100, 1000});
+
+  @Test
+  @DisplayName("단계별 소요 시간을 경매 / 단계 태그와 SLO 구간으로 기록한다")
+  void recordStage() {
+    long startedAt = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(3);
+    long next = metrics.recordStage(BidStageEnum.CREDIT_CHECK, "auction-1", startedAt);
+
+    Timer timer = meterRegistry.get("auction.bid.stage")
+        .tag("stage", "credit-check")
+        .tag("auctionId", "auction-1")
+        .timer();
+    assertEquals(timer.count(), 1L);
+    assertTrue(next - startedAt >= TimeUnit.MILLISECONDS.toNanos(3));
+    assertEquals(timer.takeSnapshot().histogramCounts().length, 2);
+  }
+
+  @Test
+  @DisplayName("검증이 끝난 뒤 앞서 잰 단계의 소요 시간을 기록한다")
+  void recordStageLater() {
+    long startedAt = System.nanoTime();
+    long endedAt = startedAt + TimeUnit.MILLISECONDS.toNanos(4);
+
+    long next = metrics.recordStage(BidStageEnum.CREDIT_CHECK, "auction-1", startedAt, endedAt);
+
+    Timer timer = meterRegistry.get("auction.bid.stage")
+        .tag("stage", "credit-check")
+        .tag("auctionId", "auction-1")
+        .timer();
+    assertEquals(next, endedAt);
+    assertEquals(timer.totalTime(TimeUnit.MILLISECONDS), 4.0);
+  }
+
+  @Test
+  @DisplayName("메시지 헤더의 접수 시각으로 전체 지연 시간을 기록하고, 헤더가 없으면 건너뛴다")
+  void recordEndToEnd() {
+    long receivedAt = System.currentTimeMillis() - 200;
+    metrics.recordEndToEnd("auction-1",
+        String.valueOf(receivedAt).getBytes(StandardCharsets.UTF_8));
+    metrics.recordEndToEnd("auction-1", null);
+    metrics.recordEndToEnd("auction-1", "invalid".getBytes(StandardCharsets.UTF_8));
+
+    Timer timer = meterRegistry.get("auction.bid.end-to-end").tag("auctionId", "auction-1").timer();
+    assertEquals(timer.count(), 1L);
+    assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 200);
+  }
+}
@@ -0,0 +1,215 @@
+package com.jeontongju.auction.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeontongju.auction.domain.Auction;
+import com.jeontongju.auction.dto.request.AuctionModifyRequestDto;
+import com.jeontongju.auction.dto.response.AuctionResponseDto;
+import com.jeontongju.auction.enums.AuctionStatusEnum;
+import com.jeontongju.auction.event.AuctionCacheInvalidator;
+import com.jeontongju.auction.event.AuctionChangedEvent;
+import com.jeontongju.auction.kafka.KafkaProcessor;
+import com.jeontongju.auction.repository.AuctionProductRepository;
+import com.jeontongju.auction.repository.AuctionRepository;
+import com.jeontongju.auction.service.ThisAuctionDetailResponseCache.Snapshot;
+import com.jeontongju.auction.util.InitData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 무효화는 커밋 후 이벤트와 Kafka 메시지로 일어나므로 커밋된 데이터로 검증한다
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2, replace = AutoConfigureTestDatabase.Replace.ANY)
+public class ThisAuctionDetailResponseCacheTest {
+
+  private static final String DETAIL_URL = "/api/auction/consumer/detail";
+
+  @SpyBean
+  private AuctionRepository auctionRepository;
+
+  @Autowired
+  private AuctionProductRepository auctionProductRepository;
+
+  @Autowired
+  private AuctionService auctionService;
+
+  @Autowired
+  private ThisAuctionDetailResponseCache thisAuctionDetailResponseCache;
+
+  @Autowired
+  private AuctionCacheInvalidator auctionCacheInvalidator;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private InitData init;
+
+  @MockBean
+  private KafkaProcessor<String> kafkaProcessor;
+
+  private String auctionId;
+
+  @BeforeEach
+  void before() {
+    auctionId = transactionTemplate.execute(status -> {
+      Auction auction = auctionRepository.save(
+          init.initAuction("제 20회 복순도가 경매대회", AuctionStatusEnum.BEFORE));
+      auctionProductRepository.saveAll(init.initAuctionProduct(auction));
+      return auction.getAuctionId();
+    });
+    thisAuctionDetailResponseCache.invalidate();
+  }
+
+  @AfterEach
+  void after() {
+    transactionTemplate.executeWithoutResult(status -> {
+      auctionProductRepository.deleteAll(auctionProductRepository.findAll());
+      auctionRepository.deleteAll();
+    });
+    entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    thisAuctionDetailResponseCache.invalidate();
+  }
+
+  @Test
+  @DisplayName("이번 주 경매 상세 응답 - 변경이 없으면 같은 응답을 재사용")
+  void reuseSnapshot() {
+    Snapshot first = thisAuctionDetailResponseCache.get();
+    Snapshot second = thisAuctionDetailResponseCache.get();
+
+    assertSame(first, second);
+    assertTrue(new String(first.getBody(), StandardCharsets.UTF_8).contains("제 20회 복순도가 경매대회"));
+  }
+
+  @Test
+  @DisplayName("이번 주 경매 상세 응답 - 경매 수정이 커밋되면 이벤트로 버리고 새 ETag 로 다시 생성")
+  void rebuildAfterCommit() {
+    Snapshot before = thisAuctionDetailResponseCache.get();
+
+    auctionService.modifyAuction(
+        AuctionModifyRequestDto.builder().title("제 31회 경매").build(), auctionId);
+
+    Snapshot after = thisAuctionDetailResponseCache.get();
+
+    assertNotEquals(after.getEtag(), before.getEtag());
+    assertTrue(new String(after.getBody(), StandardCharsets.UTF_8).contains("제 31회 경매"));
+    verify(kafkaProcessor).send(AuctionCacheInvalidator.AUCTION_CACHE_INVALIDATION, auctionId);
+  }
+
+  @Test
+  @DisplayName("이번 주 경매 상세 응답 - replica 지연을 피해 primary 로 가는 읽기 전용이 아닌 트랜잭션에서 만든다")
+  void buildOnPrimary() {
+    Optional<AuctionResponseDto> recent = auctionRepository.findThisAuctionResponseRecent();
+    // ReplicationRoutingDataSource 는 이 값으로 replica / primary 를 고른다
+    AtomicReference<Boolean> readOnly = new AtomicReference<>();
+    doAnswer(invocation -> {
+      readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+      return recent;
+    }).when(auctionRepository).findThisAuctionResponseRecent();
+
+    thisAuctionDetailResponseCache.get();
+
+    assertEquals(readOnly.get(), false);
+  }
+
+  @Test
+  @DisplayName("이번 주 경매 상세 응답 - 무효화가 없어도 TTL 이 지나면 다시 생성")
+  void rebuildAfterTtl() {
+    ThisAuctionDetailResponseCache expiring = new ThisAuctionDetailResponseCache(
+        auctionService, objectMapper, new SimpleMeterRegistry(), 0L);
+
+    assertNotSame(expiring.get(), expiring.get());
+  }
+
+  @Test
+  @DisplayName("이번 주 경매 상세 응답 - 다른 인스턴스의 무효화 메시지를 받으면 다시 생성")
+  void rebuildAfterRemoteInvalidation() {
+    Snapshot before = thisAuctionDetailResponseCache.get();
+
+    // 다른 인스턴스의 수정 - 이 인스턴스에는 이벤트가 발생하지 않는다
+    transactionTemplate.executeWithoutResult(status ->
+        entityManager.createQuery("update Auction a set a.title = :title where a.auctionId = :id")
+            .setParameter("title", "제 32회 경매")
+            .setParameter("id", auctionId)
+            .executeUpdate());
+    assertSame(thisAuctionDetailResponseCache.get(), before);
+
+    // 다른 인스턴스의 AuctionCacheInvalidator 가 보낸 메시지를 그대로 전달한다
+    auctionCacheInvalidator.publish(AuctionChangedEvent.of(auctionId));
+    ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+    verify(kafkaProcessor).send(eq(AuctionCacheInvalidator.AUCTION_CACHE_INVALIDATION),
+        message.capture());
+    auctionCacheInvalidator.evict(message.getValue());
+    thisAuctionDetailResponseCache.onRemoteAuctionChanged(message.getValue());
+
+    Snapshot after = thisAuctionDetailResponseCache.get();
+    assertNotEquals(after.getEtag(), before.getEtag());
+    assertTrue(new String(after.getBody(), StandardCharsets.UTF_8).contains("제 32회 경매"));
+  }
+
+  @Test
+  @DisplayName("이번 주 경매 상세 조회 - If-None-Match 가 현재 ETag 와 같으면 304, 수정 후에는 200")
+  void notModified() throws Exception {
+    String etag = mockMvc.perform(get(DETAIL_URL))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get(DETAIL_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+    auctionService.modifyAuction(
+        AuctionModifyRequestDto.builder().title("제 33회 경매").build(), auctionId);
+
+    String modified = mockMvc.perform(get(DETAIL_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    assertNotEquals(modified, etag);
+  }
+}
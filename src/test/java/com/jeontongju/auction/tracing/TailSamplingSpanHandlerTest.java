@@ -0,0 +1,125 @@
+package com.jeontongju.auction.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracer.SpanInScope;
+import brave.Tracing;
+import brave.handler.SpanHandler;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import zipkin2.reporter.brave.ZipkinSpanHandler;
+
+class TailSamplingSpanHandlerTest {
+
+  private final List<zipkin2.Span> reported = new CopyOnWriteArrayList<>();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final SpanHandler zipkin = ZipkinSpanHandler.create(reported::add);
+  private final TailSamplingSpanHandler tailSampling = new TailSamplingSpanHandler(
+      new StaticListableBeanFactory(Map.of("zipkinSpanHandler", zipkin))
+          .getBeanProvider(SpanHandler.class),
+      meterRegistry, 100, 0.0, 10, 10, 30);
+
+  private final Tracing tracing = Tracing.newBuilder()
+      .sampler(Sampler.NEVER_SAMPLE)
+      .alwaysSampleLocal()
+      .addSpanHandler(tailSampling)
+      .addSpanHandler(zipkin)
+      .build();
+  private final Tracer tracer = tracing.tracer();
+
+  @AfterEach
+  void close() {
+    tracing.close();
+  }
+
+  @Test
+  @DisplayName("빠르고 에러 없는 트레이스는 내보내지 않고, 느린 트레이스는 자식 스팬까지 모두 내보낸다")
+  void exportSlowTraceOnly() {
+    trace("bid", 10, false);
+    assertEquals(reported.size(), 0);
+
+    trace("hammer-down", 150, false);
+    assertEquals(names(), List.of("redis:member", "hammer-down"));
+    assertEquals(count("dropped"), 1.0);
+    assertEquals(count("latency"), 1.0);
+  }
+
+  @Test
+  @DisplayName("자식 스팬에 에러가 있으면 빠른 트레이스도 내보낸다")
+  void exportErroredTrace() {
+    trace("bid", 10, true);
+
+    assertEquals(names(), List.of("redis:member", "bid"));
+    assertEquals(reported.get(0).tags().get("error"), "boom");
+    assertEquals(count("error"), 1.0);
+  }
+
+  @Test
+  @DisplayName("루트보다 늦게 끝난 자식 스팬의 버퍼는 만료로 집계하고 비워서 새 트레이스를 막지 않는다")
+  void expireLateChild() {
+    TailSamplingSpanHandler expiring = new TailSamplingSpanHandler(
+        new StaticListableBeanFactory(Map.of("zipkinSpanHandler", zipkin))
+            .getBeanProvider(SpanHandler.class),
+        meterRegistry, 100, 0.0, 1, 10, 0);
+    try (Tracing lateTracing = Tracing.newBuilder()
+        .sampler(Sampler.NEVER_SAMPLE)
+        .alwaysSampleLocal()
+        .addSpanHandler(expiring)
+        .build()) {
+      Tracer lateTracer = lateTracing.tracer();
+      Span root = lateTracer.newTrace().name("bid").start();
+      Span child;
+      try (SpanInScope ignored = lateTracer.withSpanInScope(root)) {
+        child = lateTracer.nextSpan().name("kafka:bid-info").start();
+      }
+      root.finish();
+      child.finish();
+
+      expiring.evictExpired();
+      assertEquals(count("expired"), 1.0);
+      assertEquals(count("dropped"), 1.0);
+
+      Span next = lateTracer.newTrace().name("bid").start();
+      try (SpanInScope ignored = lateTracer.withSpanInScope(next)) {
+        lateTracer.nextSpan().name("redis:member").start().finish();
+      }
+      next.finish();
+      assertEquals(meterRegistry.find("tracing.tail-sampling.traces")
+          .tag("decision", "overflow").counter(), null);
+    }
+  }
+
+  // 루트 스팬 아래에 자식 스팬 하나를 두고 루트의 길이를 타임스탬프로 정한다
+  private void trace(String name, long durationMillis, boolean childError) {
+    long start = System.currentTimeMillis() * 1000;
+    Span root = tracer.newTrace().name(name).start(start);
+    try (SpanInScope ignored = tracer.withSpanInScope(root)) {
+      Span child = tracer.nextSpan().name("redis:member").start();
+      if (childError) {
+        child.error(new IllegalStateException("boom"));
+      }
+      child.finish();
+    }
+    root.finish(start + durationMillis * 1000);
+  }
+
+  private List<String> names() {
+    return reported.stream().map(zipkin2.Span::name).collect(Collectors.toList());
+  }
+
+  private double count(String decision) {
+    return meterRegistry.get("tracing.tail-sampling.traces").tag("decision", decision)
+        .counter().count();
+  }
+}
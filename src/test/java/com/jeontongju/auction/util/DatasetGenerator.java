@@ -0,0 +1,279 @@
+package com.jeontongju.auction.util;
+
+import com.jeontongju.auction.enums.AuctionProductStatusEnum;
+import com.jeontongju.auction.enums.AuctionStatusEnum;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 성능 테스트용 대량 데이터 생성기
+ *
+ * <p>엔티티를 거치지 않고 JDBC 배치 INSERT 로 경매 / 경매 상품 / 입찰 / 낙찰 결과를 채운다.
+ * 매주 한 번 열린 과거 경매(AFTER)와 다음 주 열릴 경매(BEFORE) 하나로 구성하고,
+ * 입찰은 과거 경매의 승인 상품에만 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatasetGenerator {
+
+  private static final int BATCH_SIZE = 5000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public Dataset generate(Scale scale) {
+    if (scale.getProductsPerAuction() > scale.getSellers()) {
+      throw new IllegalArgumentException("경매 한 건의 상품 수는 셀러 수보다 많을 수 없습니다.");
+    }
+
+    Random random = new Random(scale.getSeed());
+    LocalDateTime upcomingStartDate = LocalDate.now().plusDays(8).atTime(LocalTime.of(18, 0));
+
+    List<Object[]> auctions = new ArrayList<>();
+    List<Object[]> products = new ArrayList<>();
+    List<Object[]> bids = new ArrayList<>();
+    List<Object[]> results = new ArrayList<>();
+
+    Dataset.DatasetBuilder dataset = Dataset.builder();
+    List<String> upcomingProductIds = new ArrayList<>();
+    List<String> pastProductIds = new ArrayList<>();
+    long bidCount = 0;
+    long productCount = 0;
+
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < scale.getAuctions(); i++) {
+      int weeksAgo = scale.getAuctions() - 1 - i;
+      boolean upcoming = weeksAgo == 0;
+      LocalDateTime startDate = upcomingStartDate.minusWeeks(weeksAgo);
+      LocalDateTime createdAt = startDate.with(DayOfWeek.MONDAY).minusWeeks(1).withHour(9);
+      String auctionId = TimeOrderedUuid.generate().toString();
+      // 조회 기준이 되는 최근 두 경매를 제외하고 50건 중 1건은 삭제된 경매
+      boolean deleted = weeksAgo > 1 && i % 50 == 49;
+
+      AuctionProductStatusEnum[] statuses =
+          new AuctionProductStatusEnum[scale.getProductsPerAuction()];
+      int allowCount = 0;
+      for (int j = 0; j < statuses.length; j++) {
+        statuses[j] = productStatus(upcoming, random);
+        allowCount += statuses[j] == AuctionProductStatusEnum.ALLOW ? 1 : 0;
+      }
+
+      auctions.add(new Object[]{
+          TimeOrderedUuid.toBytes(auctionId), "제 " + (i + 1) + "회 전통주 경매", "경매 설명",
+          Timestamp.valueOf(startDate), upcoming ? null : Timestamp.valueOf(startDate.plusHours(3)),
+          IsoYearWeek.of(startDate.toLocalDate()),
+          (upcoming ? AuctionStatusEnum.BEFORE : AuctionStatusEnum.AFTER).name(),
+          allowCount, deleted, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt)
+      });
+
+      for (int j = 0; j < statuses.length; j++) {
+        String auctionProductId = TimeOrderedUuid.generate().toString();
+        AuctionProductStatusEnum status = statuses[j];
+        long sellerId = (long) (i + j) % scale.getSellers() + 1;
+        long startingPrice = 10000L + 1000L * random.nextInt(50);
+        LocalDateTime productCreatedAt = createdAt.plusMinutes(j);
+
+        products.add(new Object[]{
+            TimeOrderedUuid.toBytes(auctionProductId), TimeOrderedUuid.toBytes(auctionId),
+            "전통주 " + i + "-" + j, startingPrice, "경매 상품 설명", 750L,
+            5.0 + random.nextInt(40), "https://img/" + j, status.name(), sellerId,
+            "https://store/" + sellerId, "양조장 " + sellerId, "seller" + sellerId + "@test.com",
+            "010-0000-" + String.format("%04d", sellerId % 10000), "대표 " + sellerId,
+            Timestamp.valueOf(productCreatedAt), Timestamp.valueOf(productCreatedAt)
+        });
+        productCount++;
+
+        if (upcoming) {
+          upcomingProductIds.add(auctionProductId);
+          continue;
+        }
+        if (i == scale.getAuctions() - 2) {
+          pastProductIds.add(auctionProductId);
+        }
+        if (status != AuctionProductStatusEnum.ALLOW || scale.getBidsPerProduct() == 0) {
+          continue;
+        }
+
+        long price = startingPrice;
+        long winner = 0;
+        Set<Long> bidders = new HashSet<>();
+        for (int k = 0; k < scale.getBidsPerProduct(); k++) {
+          long consumerId = random.nextInt(scale.getConsumers()) + 1;
+          boolean last = k == scale.getBidsPerProduct() - 1;
+          Timestamp bidAt = Timestamp.valueOf(startDate.plusSeconds(2L * j * 60 + k));
+          price += 1000L * (1 + random.nextInt(5));
+          winner = consumerId;
+          bidders.add(consumerId);
+
+          bids.add(new Object[]{
+              TimeOrderedUuid.toBytes(auctionId), TimeOrderedUuid.toBytes(auctionProductId),
+              consumerId, price, last, bidAt, bidAt
+          });
+          bidCount++;
+          if (bids.size() >= BATCH_SIZE) {
+            insertAuctions(auctions);
+            insertProducts(products);
+            insertBids(bids);
+          }
+        }
+
+        // 가장 최근 과거 경매는 낙찰 결과 백필 대상으로 남겨 둔다
+        if (i != scale.getAuctions() - 2) {
+          Timestamp endAt = Timestamp.valueOf(startDate.plusHours(3));
+          results.add(new Object[]{
+              TimeOrderedUuid.toBytes(auctionProductId), TimeOrderedUuid.toBytes(auctionId),
+              winner, price, (long) bidders.size(), endAt, endAt
+          });
+        }
+      }
+
+      if (upcoming) {
+        dataset.upcomingAuctionId(auctionId);
+      } else if (i == scale.getAuctions() - 2) {
+        dataset.pastAuctionId(auctionId)
+            .pastAuctionStartDate(startDate);
+      }
+
+      if ((i + 1) % 100 == 0) {
+        log.info("데이터 생성 중 - 경매 {} / {}, 입찰 {}", i + 1, scale.getAuctions(), bidCount);
+      }
+      if (products.size() >= BATCH_SIZE) {
+        insertAuctions(auctions);
+        insertProducts(products);
+      }
+      if (results.size() >= BATCH_SIZE) {
+        insertResults(results);
+      }
+    }
+    insertAuctions(auctions);
+    insertProducts(products);
+    insertResults(results);
+    insertBids(bids);
+
+    log.info("데이터 생성 완료 - 경매 {}, 상품 {}, 입찰 {} ({} ms)", scale.getAuctions(), productCount,
+        bidCount, (System.nanoTime() - startedAt) / 1_000_000);
+
+    return dataset
+        .upcomingProductIds(upcomingProductIds)
+        .pastProductIds(pastProductIds)
+        .sellerId(busiestSellerId(scale))
+        .consumerId(1L)
+        .build();
+  }
+
+  // 최근 경매마다 상품을 하나씩 출품한 셀러 - 규모와 상관없이 출품 내역이 여러 페이지가 된다
+  private long busiestSellerId(Scale scale) {
+    return (long) (scale.getAuctions() - 1) % scale.getSellers() + 1;
+  }
+
+  // 다음 경매는 대기 / 승인 / 거절이 섞여 있고, 과거 경매는 대부분 승인
+  private AuctionProductStatusEnum productStatus(boolean upcoming, Random random) {
+    int value = random.nextInt(10);
+    if (upcoming) {
+      return value < 4 ? AuctionProductStatusEnum.WAIT
+          : value < 8 ? AuctionProductStatusEnum.ALLOW : AuctionProductStatusEnum.DENY;
+    }
+    return value < 9 ? AuctionProductStatusEnum.ALLOW : AuctionProductStatusEnum.DENY;
+  }
+
+  private void insertAuctions(List<Object[]> rows) {
+    flush("INSERT INTO auction (auction_id, title, description, start_date, end_date, year_week, "
+        + "status, reserved_slots, is_deleted, created_at, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+  }
+
+  private void insertProducts(List<Object[]> rows) {
+    flush("INSERT INTO auction_product (auction_product_id, auction_id, name, starting_price, "
+        + "description, capacity, alcohol_degree, thumbnail_image_url, status, seller_id, "
+        + "store_image_url, store_name, store_email, store_phone_number, businessman_name, "
+        + "created_at, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+  }
+
+  private void insertBids(List<Object[]> rows) {
+    flush("INSERT INTO bid_info (auction_id, auction_product_id, consumer_id, bid_price, is_bid, "
+        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+  }
+
+  private void insertResults(List<Object[]> rows) {
+    flush("INSERT INTO auction_product_result (auction_product_id, auction_id, "
+        + "winner_consumer_id, last_bid_price, total_bidder, created_at, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+  }
+
+  // 외래 키 때문에 상품 / 입찰을 넣기 전에는 항상 경매 / 상품 버퍼를 먼저 비운다
+  private void flush(String sql, List<Object[]> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(sql, rows);
+    rows.clear();
+  }
+
+  /**
+   * 생성 규모
+   *
+   * <p>기본값은 경매 2,000건, 상품 20만 건, 입찰 약 1,000만 건이다.
+   */
+  @Getter
+  @Builder
+  public static class Scale {
+
+    @Builder.Default
+    private final int auctions = 2000;
+    @Builder.Default
+    private final int productsPerAuction = 100;
+    @Builder.Default
+    private final int bidsPerProduct = 55;
+    @Builder.Default
+    private final int sellers = 500;
+    @Builder.Default
+    private final int consumers = 10000;
+    @Builder.Default
+    private final long seed = 20231218L;
+
+    public static Scale fromEnv() {
+      return Scale.builder()
+          .auctions(env("PERF_AUCTIONS", 2000))
+          .productsPerAuction(env("PERF_PRODUCTS_PER_AUCTION", 100))
+          .bidsPerProduct(env("PERF_BIDS_PER_PRODUCT", 55))
+          .sellers(env("PERF_SELLERS", 500))
+          .consumers(env("PERF_CONSUMERS", 10000))
+          .build();
+    }
+
+    private static int env(String name, int defaultValue) {
+      return Integer.parseInt(System.getenv().getOrDefault(name, String.valueOf(defaultValue)));
+    }
+  }
+
+  /**
+   * 생성된 데이터 중 조회 파라미터로 쓸 대표 값
+   */
+  @Getter
+  @Builder
+  public static class Dataset {
+
+    private final String upcomingAuctionId;
+    private final String pastAuctionId;
+    private final LocalDateTime pastAuctionStartDate;
+    private final List<String> upcomingProductIds;
+    private final List<String> pastProductIds;
+    private final Long sellerId;
+    private final Long consumerId;
+  }
+}
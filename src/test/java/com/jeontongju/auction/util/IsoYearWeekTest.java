@@ -0,0 +1,25 @@
+package com.jeontongju.auction.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IsoYearWeekTest {
+
+  @Test
+  @DisplayName("다른 해의 같은 주차는 다른 값이다")
+  void differentYearSameWeek() {
+    assertEquals(IsoYearWeek.of(LocalDate.of(2026, 10, 16)), 202642);
+    assertNotEquals(IsoYearWeek.of(LocalDate.of(2025, 10, 17)), IsoYearWeek.of(LocalDate.of(2026, 10, 16)));
+  }
+
+  @Test
+  @DisplayName("연말 / 연초는 주차 기준 연도를 따른다")
+  void weekBasedYear() {
+    assertEquals(IsoYearWeek.of(LocalDate.of(2027, 1, 1)), 202653);
+    assertEquals(IsoYearWeek.of(LocalDate.of(2024, 12, 30)), 202501);
+  }
+}
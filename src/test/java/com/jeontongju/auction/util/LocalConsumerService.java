@@ -0,0 +1,86 @@
+package com.jeontongju.auction.util;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.auction.client.ConsumerServiceFeignClient;
+import io.github.bitbox.bitbox.dto.ConsumerInfoDto;
+import io.github.bitbox.bitbox.dto.FeignFormat;
+import io.github.bitbox.bitbox.dto.MemberDto;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+
+// 테스트용 consumer-service 대역
+public class LocalConsumerService implements ConsumerServiceFeignClient {
+
+  private final long latencyMillis;
+  private final AtomicInteger singleCalls = new AtomicInteger();
+  private final AtomicInteger bulkCalls = new AtomicInteger();
+
+  public LocalConsumerService(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+  }
+
+  @Override
+  public FeignFormat<ConsumerInfoDto> getConsumerInfo(Long consumerId) {
+    singleCalls.incrementAndGet();
+    sleep();
+    return FeignFormat.<ConsumerInfoDto>builder()
+        .code(HttpStatus.OK.value())
+        .data(consumerInfo())
+        .build();
+  }
+
+  @Override
+  public FeignFormat<Map<Long, ConsumerInfoDto>> getConsumerInfoList(List<Long> consumerIds) {
+    bulkCalls.incrementAndGet();
+    sleep();
+    return FeignFormat.<Map<Long, ConsumerInfoDto>>builder()
+        .code(HttpStatus.OK.value())
+        .data(consumerIds.stream()
+            .collect(Collectors.toMap(Function.identity(), consumerId -> consumerInfo())))
+        .build();
+  }
+
+  @Override
+  public FeignFormat<Boolean> deductCredit(Long consumerId, Long deductionCredit) {
+    return FeignFormat.<Boolean>builder()
+        .code(HttpStatus.OK.value())
+        .data(true)
+        .build();
+  }
+
+  public int getSingleCalls() {
+    return singleCalls.get();
+  }
+
+  public int getBulkCalls() {
+    return bulkCalls.get();
+  }
+
+  private ConsumerInfoDto consumerInfo() {
+    ConsumerInfoDto consumerInfo = mock(ConsumerInfoDto.class);
+    when(consumerInfo.to(anyLong())).thenAnswer(invocation ->
+        MemberDto.builder()
+            .memberId(invocation.getArgument(0))
+            .nickname("소비자")
+            .profileImage("")
+            .credit(100000L)
+            .build()
+    );
+    return consumerInfo;
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(latencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
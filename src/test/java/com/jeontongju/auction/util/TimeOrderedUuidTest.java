@@ -0,0 +1,41 @@
+package com.jeontongju.auction.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidTest {
+
+  @Test
+  @DisplayName("같은 밀리초 안에서도 생성 순서대로 정렬된다")
+  void orderedWithinSameMillis() {
+    List<String> generated = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      generated.add(TimeOrderedUuid.generate(1_700_000_000_000L).toString());
+    }
+
+    List<String> sorted = new ArrayList<>(generated);
+    sorted.sort(String::compareTo);
+
+    assertEquals(generated, sorted);
+    assertEquals(7, UUID.fromString(generated.get(0)).version());
+    assertEquals(2, UUID.fromString(generated.get(0)).variant());
+  }
+
+  @Test
+  @DisplayName("16바이트로 변환했다가 되돌리면 같은 문자열이다")
+  void bytesRoundTrip() {
+    String uuid = TimeOrderedUuid.generate().toString();
+    byte[] bytes = TimeOrderedUuid.toBytes(uuid);
+
+    assertEquals(16, bytes.length);
+    assertEquals(TimeOrderedUuid.fromBytes(bytes), uuid);
+    assertTrue(TimeOrderedUuid.fromBytes(TimeOrderedUuid.toBytes(UUID.randomUUID().toString()))
+        .matches("[0-9a-f\\-]{36}"));
+  }
+}